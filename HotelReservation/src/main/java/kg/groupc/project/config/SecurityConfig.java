@@ -1,5 +1,6 @@
 package kg.groupc.project.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.security.ConditionalOnDefaultWebSecurity;
 import org.springframework.boot.autoconfigure.security.SecurityProperties;
@@ -8,14 +9,14 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 import kg.groupc.project.handler.CustomAccessDeniedHandler;
 import kg.groupc.project.handler.CustomAuthenticationEntryPoint;
 import kg.groupc.project.handler.LoginFailureHandler;
+import kg.groupc.project.util.BoundedPasswordEncoder;
 import lombok.RequiredArgsConstructor;
 
 @EnableWebSecurity
@@ -27,14 +28,14 @@ public class SecurityConfig {
 	private final LoginFailureHandler loginFailureHandler;
 	@Bean
 	@Order(SecurityProperties.BASIC_AUTH_ORDER)
-	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
+	public SecurityFilterChain filterChain(HttpSecurity http, SessionRegistry sessionRegistry) throws Exception{
 		http
 			.csrf().disable()
 			.headers().frameOptions().disable()
 			.and()
 				.authorizeRequests()
 					.antMatchers("/", "/nav", "/login", "/signin", "/css/**", "/images/**", "/js/**").permitAll()
-					.antMatchers("/admin")
+					.antMatchers("/admin", "/admin/**")
 						.hasRole("ADMIN")
 					.anyRequest().permitAll()
 			.and()
@@ -54,14 +55,20 @@ public class SecurityConfig {
 				.accessDeniedHandler(new CustomAccessDeniedHandler())
 				.authenticationEntryPoint(new CustomAuthenticationEntryPoint())
 		;
+		// 동시 로그인 제한은 세션 저장소 기준(여러 서버 공유, SessionConfig)
 		http.sessionManagement()
 			.maximumSessions(1)
-			.maxSessionsPreventsLogin(false);
+			.maxSessionsPreventsLogin(false)
+			.sessionRegistry(sessionRegistry);
 		return http.build();
 	}
 	
+	// BCrypt 해시/비교는 전용 스레드 풀에서(스레드 수 0이면 CPU 코어 수), 대기열이 가득 차면 503
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public BoundedPasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength,
+			@Value("${security.bcrypt.threads:0}") int threads,
+			@Value("${security.bcrypt.queue-capacity:64}") int queueCapacity) {
+		return new BoundedPasswordEncoder(strength,
+				threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity);
 	}
 }
@@ -0,0 +1,47 @@
+package kg.groupc.project.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.session.SessionProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+
+import kg.groupc.project.util.CoalescingSessionRepository;
+
+// 세션 저장소 설정
+// 세션은 spring.session.store-type 의 저장소(기본 jdbc : 기존 DB 의 SPRING_SESSION 테이블)에 두고
+// 동시 로그인 제한도 저장소 기준으로 확인하므로 서버를 여러 대 두어도 sticky session 이 필요 없음
+// 저장소("sessionRepository" 빈)를 바꾸면 나머지는 그대로 동작
+@Configuration(proxyBeanMethods = false)
+public class SessionConfig {
+
+	// 요청마다 마지막 접근 시각을 쓰지 않도록 감싼 저장소(세션 필터가 이 빈을 사용)
+	// 저장된 접근 시각이 최대 window 만큼 늦으므로 window 가 세션 유지 시간보다 짧지 않으면 시작하지 않음
+	@Bean
+	@Primary
+	public <S extends Session> CoalescingSessionRepository<S> coalescingSessionRepository(
+			@Qualifier("sessionRepository") FindByIndexNameSessionRepository<S> sessionRepository,
+			@Value("${session.coalesce-window-seconds:60}") long windowSeconds,
+			SessionProperties sessionProperties, ServerProperties serverProperties) {
+		Duration window = Duration.ofSeconds(windowSeconds);
+		Duration timeout = sessionProperties.determineTimeout(() -> serverProperties.getServlet().getSession().getTimeout());
+		if(timeout != null && window.compareTo(timeout) >= 0) {
+			throw new IllegalStateException("session.coalesce-window-seconds(" + window + ") must be shorter than the session timeout(" + timeout + ")");
+		}
+		return new CoalescingSessionRepository<>(sessionRepository, window);
+	}
+
+	// 동시 로그인 제한(maximumSessions)용 세션 목록, 저장소의 사용자 아이디 인덱스로 조회
+	@Bean
+	public <S extends Session> SpringSessionBackedSessionRegistry<CoalescingSessionRepository.CoalescingSession<S>> sessionRegistry(
+			CoalescingSessionRepository<S> coalescingSessionRepository) {
+		return new SpringSessionBackedSessionRegistry<>(coalescingSessionRepository);
+	}
+}
@@ -1,8 +1,15 @@
 package kg.groupc.project.configuration;
 
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 @Configuration
 public class ProjectConfiguration implements WebMvcConfigurer {
@@ -20,6 +27,22 @@ public class ProjectConfiguration implements WebMvcConfigurer {
 
 	@Override
 	public void addResourceHandlers(ResourceHandlerRegistry registry) {
+		// css/js : 주소에 내용 해시(home-<md5>.css), 내용이 바뀌면 주소가 바뀌므로 1년 캐시
+		// 미리 압축해 둔 .br/.gz 가 있으면 브라우저가 받을 수 있는 것으로 응답(StaticAssetCompressor)
+		for(String dir : new String[] {"css", "js"}) {
+			registry.addResourceHandler("/resources/" + dir + "/**")
+				.addResourceLocations("/resources/" + dir + "/")
+				.setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
+				.resourceChain(true)
+					.addResolver(new EncodedResourceResolver())
+					.addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+		}
 		registry.addResourceHandler("/resources/**").addResourceLocations("/resources/");
 	}
+	
+	// JSP 의 <c:url value="/resources/..."/> 를 내용 해시가 붙은 주소로 바꿈
+	@Bean
+	public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+		return new ResourceUrlEncodingFilter();
+	}
 }
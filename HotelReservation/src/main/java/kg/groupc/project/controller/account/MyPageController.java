@@ -1,12 +1,14 @@
 package kg.groupc.project.controller.account;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 
 import javax.validation.Valid;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,20 +20,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
 
 import kg.groupc.project.controller.BaseController;
-import kg.groupc.project.dto.account.BookingDto;
-import kg.groupc.project.dto.account.HotelScoreDto;
+import kg.groupc.project.dto.account.AccountSummaryDto;
 import kg.groupc.project.dto.account.InfoChangeFormDto;
+import kg.groupc.project.dto.account.MyPageDto;
 import kg.groupc.project.dto.account.PwdChangeFormDto;
-import kg.groupc.project.dto.account.RestaurantScoreDto;
-import kg.groupc.project.dto.account.StarsDto;
 import kg.groupc.project.dto.review.ReviewFormDto;
 import kg.groupc.project.entity.account.Account;
+import kg.groupc.project.entity.hotel.Booking;
 import kg.groupc.project.entity.hotel.Hotel;
 import kg.groupc.project.entity.restaurant.Restaurant;
 import kg.groupc.project.entity.restaurant.Stars;
 import kg.groupc.project.repository.restaurant.RestaurantRepository;
+import kg.groupc.project.service.account.MyPageService;
+import kg.groupc.project.service.hotel.BookingArchiveService;
 import lombok.RequiredArgsConstructor;
 
 @Controller
@@ -41,26 +45,73 @@ public class MyPageController extends BaseController{
 	private final RestaurantRepository<Restaurant, Long> rr;
 	private final PasswordEncoder passwordEncoder;
 	
+	@Autowired
+	private BookingArchiveService<Booking, Long> bookingArchiveService;
+	
+	@Autowired
+	private MyPageService<Account, Long> myPageService;
+	
 	@GetMapping("/mypage")
 	public String mypage(@AuthenticationPrincipal User user, Model model) {
-		String userId = user.getUsername();
-		List<ArrayList<BookingDto>> bookingList = accountService.getBookingList(userId);
-		List<StarsDto> starsList = accountService.getStarsList(userId);
-		List<HotelScoreDto> hotelScoreList = accountService.getHotelScoreList(userId);
-		List<RestaurantScoreDto> restaurantScoreList = accountService.getRestaurantScoreList(userId);
+		MyPageDto myPageDto = myPageService.getMyPage(user.getUsername());
 		
-		bookingList.get(0).sort((Comparator.comparing(BookingDto::getReserveDate))); // 예약 현황은 빠른일 기준 먼저 출력
-		bookingList.get(1).sort((Comparator.comparing(BookingDto::getReserveDate).reversed())); // 이용 내역은 최신 내역 먼저 출력
-		
-		model.addAttribute("reserveBookingList", bookingList.get(0));
-		model.addAttribute("progressedBookingList", bookingList.get(1));
-		model.addAttribute("starsDtoList", starsList);
-		model.addAttribute("hotelScoreList", hotelScoreList);
-		model.addAttribute("restaurantScoreList", restaurantScoreList);
+		// 섹션마다 첫 페이지만, 다음 페이지는 /mypage/section/{section} 으로 조회
+		model.addAttribute("reserveBookingList", myPageDto.getReserveBookingList().getContent());
+		model.addAttribute("progressedBookingList", myPageDto.getProgressedBookingList().getContent());
+		model.addAttribute("starsDtoList", myPageDto.getStarsList().getContent());
+		model.addAttribute("hotelScoreList", myPageDto.getHotelScoreList().getContent());
+		model.addAttribute("restaurantScoreList", myPageDto.getRestaurantScoreList().getContent());
+		model.addAttribute("reserveHasNext", myPageDto.getReserveBookingList().hasNext());
+		model.addAttribute("progressedHasNext", myPageDto.getProgressedBookingList().hasNext());
+		model.addAttribute("starsHasNext", myPageDto.getStarsList().hasNext());
+		model.addAttribute("hotelScoreHasNext", myPageDto.getHotelScoreList().hasNext());
+		model.addAttribute("restaurantScoreHasNext", myPageDto.getRestaurantScoreList().hasNext());
 
 		return "/mypage/mypage";
 	}
 	
+	// 마이페이지 섹션 한 페이지(JSON) : content, page, hasNext
+	// reservation(예약 현황), history(이용 내역, 보관된 예약 포함), stars(나의 맛집), hotelScore/restaurantScore(리뷰), 그 외는 404
+	@GetMapping("/mypage/section/{section}")
+	@ResponseBody
+	public Map<String, Object> mypageSection(@AuthenticationPrincipal User user, @PathVariable String section,
+			@RequestParam(defaultValue = "0") int page) {
+		String userId = user.getUsername();
+		page = Math.max(page, 0);
+		Slice<?> slice;
+		switch(section) {
+		case "reservation":
+			slice = myPageService.getReserveBookingSlice(userId, PageRequest.of(page, MyPageService.BOOKING_PAGE_SIZE));
+			break;
+		case "history":
+			slice = bookingArchiveService.getHistory(userId, PageRequest.of(page, MyPageService.BOOKING_PAGE_SIZE));
+			break;
+		case "stars":
+			slice = myPageService.getStarsSlice(userId, PageRequest.of(page, MyPageService.STARS_PAGE_SIZE));
+			break;
+		case "hotelScore":
+			slice = myPageService.getHotelScoreSlice(userId, PageRequest.of(page, MyPageService.SCORE_PAGE_SIZE));
+			break;
+		case "restaurantScore":
+			slice = myPageService.getRestaurantScoreSlice(userId, PageRequest.of(page, MyPageService.SCORE_PAGE_SIZE));
+			break;
+		default:
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "section : " + section);
+		}
+		Map<String, Object> result = new HashMap<>();
+		result.put("content", slice.getContent());
+		result.put("page", slice.getNumber());
+		result.put("hasNext", slice.hasNext());
+		return result;
+	}
+	
+	// 이용 내역 전체(보관된 예약 포함), 페이지 단위로 조회
+	@GetMapping("/mypage/history")
+	public String history(@AuthenticationPrincipal User user, @RequestParam(defaultValue = "0") int page, Model model) {
+		model.addAttribute("historyPage", bookingArchiveService.getHistory(user.getUsername(), PageRequest.of(Math.max(page, 0), 10)));
+		return "/mypage/list/historyList";
+	}
+	
 	@GetMapping("/mypage/pwdcheck")
 	public String pwdCheck() {
 		return "/login/pwdCheckForm";
@@ -70,11 +121,13 @@ public class MyPageController extends BaseController{
 	public String postPwdCheck(@RequestParam String menu, @RequestParam String password,
 				@AuthenticationPrincipal User user,
 				Model model) {
-		Account account = accountService.getAccountById(user.getUsername());
+		AccountSummaryDto accountSummary = accountService.getAccountSummary(user.getUsername());
 		model.addAttribute("menu", menu);
-		if(passwordEncoder.matches(password, account.getPassword())) {
+		if(passwordEncoder.matches(password, accountSummary.getPassword())) {
 			model.addAttribute("pwdck", "1");
 			if(menu.equals("1")) {
+				// 개인정보 변경 화면에만 전체 계정 정보 조회
+				Account account = accountService.getAccountById(user.getUsername());
 				InfoChangeFormDto infoChangeFormDto = new InfoChangeFormDto();
 				infoChangeFormDto.setUsername(account.getName());
 				infoChangeFormDto.setUserId(account.getUserId());
@@ -169,7 +222,7 @@ public class MyPageController extends BaseController{
 		model.addAttribute("seq", seq);
 		model.addAttribute("name", restaurant.getName());
 		model.addAttribute("type", "restaurant");
-		model.addAttribute("img", seq+".jpg");
+		model.addAttribute("img", restaurant.getImg());
 		return "/mypage/review/reviewForm";
 	}
 	
@@ -44,7 +44,12 @@ public class SignupController extends BaseController{
 		}
 		Account account = Account.createAccount(signupFormDto, passwordEncoder);
 		System.out.println(account);
-		accountService.saveAccount(account);
+		if(accountService.saveAccount(account) == null) {
+			// 중복 확인 후 같은 아이디가 먼저 가입됨
+			model.addAttribute("signupFormDto", signupFormDto);
+			model.addAttribute("valid_userId", "이미 사용 중인 아이디입니다.");
+			return "/signup/signupForm";
+		}
 		model.addAttribute("msg", "회원가입이 완료되었습니다!\n지금 바로 예약하고 여행을 떠나보세요!");
 		model.addAttribute("type", "signup");
 		return "/alert/success";
@@ -1,7 +1,174 @@
 package kg.groupc.project.controller.admin;
 
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
 import kg.groupc.project.controller.BaseController;
+import kg.groupc.project.entity.hotel.Booking;
+import kg.groupc.project.entity.hotel.Hotel;
+import kg.groupc.project.service.home.LeaderboardService;
+import kg.groupc.project.service.hotel.BookingArchiveService;
+import kg.groupc.project.service.hotel.BookingIntakeService;
+import kg.groupc.project.service.hotel.BookingStatusService;
+import kg.groupc.project.service.hotel.RoomAvailabilityService;
+import kg.groupc.project.util.BoundedPasswordEncoder;
+import kg.groupc.project.util.CoalescingSessionRepository;
+import kg.groupc.project.util.ContentAddressedImageStore;
+import kg.groupc.project.util.FileRangeSender;
+import kg.groupc.project.util.ImageVariantProcessor;
+import kg.groupc.project.util.RestaurantDetailCache;
+import kg.groupc.project.util.UserIdBloomFilter;
 
+@Controller
 public class AdminController extends BaseController{
-
+	
+	@Autowired
+	private BookingIntakeService bookingIntakeService;
+	
+	@Autowired
+	private BoundedPasswordEncoder passwordEncoder;
+	
+	@Autowired
+	private UserIdBloomFilter userIdBloomFilter;
+	
+	@Autowired
+	private CoalescingSessionRepository<?> coalescingSessionRepository;
+	
+	@Autowired
+	private RestaurantDetailCache restaurantDetailCache;
+	
+	@Autowired
+	private ImageVariantProcessor imageVariantProcessor;
+	
+	@Autowired
+	private ContentAddressedImageStore imageStore;
+	
+	@Autowired
+	private BookingArchiveService<Booking, Long> bookingArchiveService;
+	
+	@Autowired
+	private BookingStatusService<Booking, Long> bookingStatusService;
+	
+	@Autowired
+	private LeaderboardService<Hotel, Long> leaderboardService;
+	
+	@Autowired
+	private RoomAvailabilityService<Booking, Long> roomAvailabilityService;
+	
+	// 예약 비동기 접수 지표(대기열 크기, 작업 스레드 수, 묶음 크기, 처리 건수)
+	@GetMapping("/admin/booking/intake")
+	@ResponseBody
+	public Map<String, Object> bookingIntakeMetrics() {
+		return bookingIntakeService.getMetrics();
+	}
+	
+	// 날짜 확인 지표(점유 달력/DB 조회 건수와 평균 시간, 달력 메모리와 방 1만 개 기준 메모리)
+	@GetMapping("/admin/booking/availability")
+	@ResponseBody
+	public Map<String, Object> availabilityMetrics() {
+		return roomAvailabilityService.getMetrics();
+	}
+	
+	// 기간이 지난 예약을 보관 테이블로 옮김(매일 자동 실행, 바로 반영할 때 사용, 옮긴 건수 반환)
+	@PostMapping("/admin/booking/archive")
+	@ResponseBody
+	public Map<String, Integer> archiveBooking() {
+		Map<String, Integer> result = new HashMap<>();
+		result.put("archived", bookingArchiveService.archive());
+		return result;
+	}
+	
+	// 예약일이 지난 예약 이용 완료 처리(매일 자동 실행, 바로 반영할 때 사용)
+	@PostMapping("/admin/booking/complete")
+	@ResponseBody
+	public Map<String, Integer> completeBooking() {
+		Map<String, Integer> result = new HashMap<>();
+		result.put("completed", bookingStatusService.completePastBookings());
+		return result;
+	}
+	
+	// 비밀번호 해시 지표(대기 건수, 거절 건수, 대기/해시 시간) : BCrypt strength 조정용
+	@GetMapping("/admin/password/metrics")
+	@ResponseBody
+	public Map<String, Object> passwordEncoderMetrics() {
+		return passwordEncoder.getMetrics();
+	}
+	
+	// 회원가입 아이디 블룸 필터 지표(크기, 해시 수, 설정/예상 오탐률, DB 조회 생략 건수)
+	@GetMapping("/admin/account/bloom")
+	@ResponseBody
+	public Map<String, Object> userIdBloomFilterMetrics() {
+		return userIdBloomFilter.getMetrics();
+	}
+	
+	// 이미지 크기별 변환 지표(대기/처리/실패 건수, 변환 시간, 크기), 파일 응답 방식별 건수(sendfile/스트림 복사)
+	@GetMapping("/admin/image/metrics")
+	@ResponseBody
+	public Map<String, Object> imageVariantMetrics() {
+		Map<String, Object> result = new HashMap<>();
+		result.put("variant", imageVariantProcessor.getMetrics());
+		result.put("store", imageStore.getMetrics());
+		result.put("send", FileRangeSender.getMetrics());
+		return result;
+	}
+	
+	// 변환 결과가 없는 이미지 저장소/맛집/메뉴/배너 이미지를 변환 예약(예약한 건수 반환)
+	@PostMapping("/admin/image/backfill")
+	@ResponseBody
+	public Map<String, Integer> backfillImageVariants(HttpServletRequest req) {
+		Map<String, Integer> result = new HashMap<>();
+		result.put("store", imageVariantProcessor.backfill(imageStore.getRoot().toFile()));
+		for(String dir : new String[] {"restaurantImg", "menuImg", "restaurantBanner"}) {
+			String path = req.getServletContext().getRealPath("/resources/img/" + dir + "/");
+			result.put(dir, path == null ? 0 : imageVariantProcessor.backfill(new File(path)));
+		}
+		return result;
+	}
+	
+	// 맛집 상세 캐시 지표(적중률, 조회 시간)
+	@GetMapping("/admin/cache/restaurant")
+	@ResponseBody
+	public Map<String, Object> restaurantDetailCacheMetrics() {
+		return restaurantDetailCache.getMetrics();
+	}
+	
+	// 세션 저장 지표(저장/생략 건수)
+	@GetMapping("/admin/session/metrics")
+	@ResponseBody
+	public Map<String, Object> sessionMetrics() {
+		return coalescingSessionRepository.getMetrics();
+	}
+	
+	// 호텔/맛집 평점 집계 전체 재계산(집계가 어긋났을 때 복구용)
+	@PostMapping("/admin/score/rebuild")
+	@ResponseBody
+	public Map<String, Integer> rebuildScoreSummary() {
+		Map<String, Integer> result = new HashMap<>();
+		result.put("hotel", hotelScoreService.rebuildScoreSummary());
+		result.put("restaurant", restaurantScoreService.rebuildScoreSummary());
+		// 다시 계산한 집계로 홈 화면 순위도 다시 맞춤
+		leaderboardService.reconcile();
+		return result;
+	}
+	
+	// 홈 화면 순위를 DB 집계로 다시 맞춤
+	@PostMapping("/admin/score/leaderboard")
+	@ResponseBody
+	public Map<String, Object> reconcileLeaderboard() {
+		leaderboardService.reconcile();
+		Map<String, Object> result = new HashMap<>();
+		result.put("topHotels", leaderboardService.getTopRatedHotels());
+		result.put("topRestaurants", leaderboardService.getTopRatedRestaurants());
+		result.put("lovedRestaurants", leaderboardService.getMostFavoritedRestaurants());
+		return result;
+	}
 }
@@ -1,16 +1,26 @@
 package kg.groupc.project.controller.home;
 
-import java.util.List;
-
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 import kg.groupc.project.controller.BaseController;
+import kg.groupc.project.entity.hotel.Hotel;
+import kg.groupc.project.service.home.LeaderboardService;
 
 @Controller
 public class HomeController extends BaseController{
+	
+	@Autowired
+	private LeaderboardService<Hotel, Long> leaderboardService;
+	
+	// 홈 화면 + 순위(메모리 순위표, DB 조회 없음)
 	@GetMapping("/")
-	public String home() {
+	public String home(Model model) {
+		model.addAttribute("topHotelList", leaderboardService.getTopRatedHotels());
+		model.addAttribute("topRestaurantList", leaderboardService.getTopRatedRestaurants());
+		model.addAttribute("lovedRestaurantList", leaderboardService.getMostFavoritedRestaurants());
 		return "home";
 	}
 }
@@ -3,8 +3,12 @@ package kg.groupc.project.controller.hotel;
 import java.sql.Date;
 import java.text.DecimalFormat;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -12,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Controller;
@@ -19,14 +24,21 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
 
 import kg.groupc.project.controller.BaseController;
 import kg.groupc.project.dto.account.BookingDto;
 import kg.groupc.project.dto.hotel.BookingFormDto;
+import kg.groupc.project.dto.hotel.BookingIntakeDto;
+import kg.groupc.project.dto.hotel.HotelCursorFormDto;
 import kg.groupc.project.dto.hotel.HotelMainFormDto;
+import kg.groupc.project.entity.hotel.Booking;
 import kg.groupc.project.entity.hotel.Hotel;
 import kg.groupc.project.entity.hotel.Room;
+import kg.groupc.project.service.hotel.BookingIntakeService;
 import kg.groupc.project.service.hotel.HotelService;
 import kg.groupc.project.util.HotelPageUtil;
 
@@ -39,6 +51,9 @@ public class HotelController extends BaseController{
 	@Autowired
 	HotelPageUtil HotelPageUtil;
 	
+	@Autowired
+	private BookingIntakeService bookingIntakeService;
+	
 	@GetMapping("/hotel")
 	public String hotel(HttpServletRequest request, Model model,
 			@PageableDefault(size = 10)Pageable pageable) {
@@ -59,6 +74,20 @@ public class HotelController extends BaseController{
 			page = Integer.parseInt(request.getParameter("page"));
 		}
 		
+		model.addAttribute("num", num);//검색 조건 유지
+		model.addAttribute("keyword", keyword);//페이지 이동 후에도 keyword를 유지시키기 위함
+		
+		if("cursor".equals(request.getParameter("mode"))) {//커서 모드 : 깊은 페이지도 첫 페이지와 같은 비용
+			boolean backward = "prev".equals(request.getParameter("dir"));
+			HotelCursorFormDto hotelCursorFormDto =
+					hotelService.getHotelList(keyword, num, request.getParameter("cursor"), backward, 10);
+			model.addAttribute("cursorMode", true);
+			model.addAttribute("hotelMainFormDtoList", hotelCursorFormDto.getHotelMainFormDtoList());
+			model.addAttribute("nextCursor", hotelCursorFormDto.getNextCursor());//null이면 비활성
+			model.addAttribute("prevCursor", hotelCursorFormDto.getPrevCursor());
+			return "/hotel/hotel";
+		}
+		
 		pageable = PageRequest.of(page-1, 10);
 		
 		List<HotelMainFormDto> hotelMainFormDtoList = //데이터 전체 반환
@@ -67,12 +96,11 @@ public class HotelController extends BaseController{
 //			hotelMainFormDtoList = new ArrayList<HotelMainFormDto>();
 //		}
 		
-		int maxPage = HotelPageUtil.pageButtonInitialize((int) hotelMainFormDtoList.get(1).getDataCount(), pageable);
+		long dataCount = hotelMainFormDtoList.isEmpty() ? 0 : hotelMainFormDtoList.get(0).getDataCount();
+		int maxPage = HotelPageUtil.pageButtonInitialize((int) dataCount, pageable);
 		
 		
 		
-		model.addAttribute("num", num);//검색 조건 유지
-		model.addAttribute("keyword", keyword);//페이지 이동 후에도 keyword를 유지시키기 위함
 		model.addAttribute("hotelMainFormDtoList", hotelMainFormDtoList);//호텔 목록 전달
 		model.addAttribute("maxPage", maxPage);
 //		페이지에 maxPage만큼 이동버튼이 생김, 마지막 페이지
@@ -87,6 +115,16 @@ public class HotelController extends BaseController{
 		return "/hotel/hotel";
 	}
 	
+	// 무한스크롤용 호텔 목록(JSON), 응답의 nextCursor로 다음 목록 요청
+	@ResponseBody
+	@GetMapping("/hotel/list")
+	public HotelCursorFormDto hotelList(String keyword,
+			@RequestParam(defaultValue = "0") int num,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "next") String dir) {
+		return hotelService.getHotelList(keyword, num, cursor, "prev".equals(dir), 10);
+	}
+	
 	@GetMapping("/hotel/detail/{seq}")
 	public String hotelDetail(@PathVariable int seq) {//호텔 상세보기/객실리스트 화면
 		
@@ -116,11 +154,70 @@ public class HotelController extends BaseController{
 	@PostMapping("/hotel/reservation/{seq}")
 	public String postReservation(Model model, @PathVariable Long seq, BookingFormDto bookingFormDto,
 				@AuthenticationPrincipal User user) {
-		bookingService.saveBooking(bookingFormDto, user.getUsername());
+		if(bookingIntakeService.isEnabled()) {//비동기 접수 모드 : 접수 번호를 받고 대기 화면에서 확정 여부 조회
+			String ticketId = bookingIntakeService.submit(bookingFormDto, user.getUsername());
+			if(ticketId == null) {
+				model.addAttribute("msg", "예약 요청이 많아 접수하지 못했습니다. 잠시 후 다시 시도해주세요.");
+				model.addAttribute("type", "reservation");
+				model.addAttribute("seq", seq);
+				return "/alert/success";
+			}
+			model.addAttribute("ticketId", ticketId);
+			model.addAttribute("seq", seq);
+			return "/hotel/reservationWait";
+		}
+		if(bookingService.saveBooking(bookingFormDto, user.getUsername()) == null) {
+			model.addAttribute("msg", "이미 예약된 날짜입니다. 날짜를 다시 선택해주세요.");
+			model.addAttribute("type", "reservation");
+			model.addAttribute("seq", seq);
+			return "/alert/success";
+		}
 		return "redirect:/mypage";
 	}
 	
 	
+	// 숙박 요금 견적 {price}(요일/시즌 요금 반영), 방 번호나 날짜(yyyy-mm-dd)가 없거나 형식이 틀리면 400
+	@ResponseBody
+	@GetMapping("/hotel/reservation/quote")
+	public Map<String, Object> quote(Long roomSeq, String checkin, String checkout) {
+		if(roomSeq == null) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+		}
+		Map<String, Object> result = new HashMap<>();
+		result.put("price", bookingService.getQuote(roomSeq, parseDate(checkin), parseDate(checkout)));
+		return result;
+	}
+	
+	// 비동기 접수 상태 조회 {status : WAITING/CONFIRMED/REJECTED, bookingSeq}
+	@ResponseBody
+	@GetMapping("/hotel/reservation/ticket/{ticketId}")
+	public Map<String, Object> reservationTicket(@PathVariable String ticketId, @AuthenticationPrincipal User user) {
+		Map<String, Object> result = new HashMap<>();
+		BookingIntakeDto intake = bookingIntakeService.getTicket(ticketId, user.getUsername());
+		result.put("status", intake == null ? null : intake.getStatus());
+		result.put("bookingSeq", intake == null ? null : intake.getBookingSeq());
+		return result;
+	}
+	
+	// 단체 예약(여러 방을 한 번에), JSON 배열 [{seq, checkin, checkout, people, price}, ...]
+	// 하나라도 예약할 수 없으면 전부 취소되고 success = false
+	@ResponseBody
+	@PostMapping("/hotel/reservation/group")
+	public Map<String, Object> postGroupReservation(@RequestBody List<BookingFormDto> bookingFormDtoList,
+			@AuthenticationPrincipal User user) {
+		Map<String, Object> result = new HashMap<>();
+		List<Booking> bookingList = bookingService.saveGroupBooking(bookingFormDtoList, user.getUsername());
+		List<Long> bookingSeqList = new ArrayList<>();
+		if(bookingList != null) {
+			for(Booking booking : bookingList) {
+				bookingSeqList.add(booking.getSeq());
+			}
+		}
+		result.put("success", bookingList != null);
+		result.put("bookingSeqList", bookingSeqList);
+		return result;
+	}
+	
 	@ResponseBody
 	@PostMapping("/hotel/reservation/datecheck")
 	public boolean dateCheck(Long roomSeq, String checkin, String checkout,
@@ -130,4 +227,35 @@ public class HotelController extends BaseController{
 		}
 		return false;
 	}
+	
+	// 해당 월(yyyy-mm)의 빈 날짜 목록(yyyy-mm-dd), 방 번호나 월이 없거나 형식이 틀리면 400
+	@ResponseBody
+	@GetMapping("/hotel/reservation/freenights")
+	public List<String> freeNights(Long roomSeq, String month) {
+		if(roomSeq == null || month == null) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+		}
+		YearMonth yearMonth;
+		try {
+			yearMonth = YearMonth.parse(month);
+		}catch(DateTimeParseException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "month : " + month);
+		}
+		List<String> freeList = new ArrayList<>();
+		for(LocalDate night : bookingService.getFreeNights(roomSeq, yearMonth)) {
+			freeList.add(night.toString());
+		}
+		return freeList;
+	}
+	
+	private static LocalDate parseDate(String date) {
+		if(date == null) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+		}
+		try {
+			return LocalDate.parse(date);
+		}catch(DateTimeParseException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "date : " + date);
+		}
+	}
 }
@@ -0,0 +1,84 @@
+package kg.groupc.project.controller.image;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import kg.groupc.project.controller.BaseController;
+import kg.groupc.project.util.ContentAddressedImageStore;
+import kg.groupc.project.util.FileRangeSender;
+import kg.groupc.project.util.ImageVariantProcessor.Variant;
+
+@Controller
+public class ImageController extends BaseController{
+	
+	// 내용이 바뀌지 않는 파일 : 1년, 다시 확인하지 않음
+	private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+	// 크기별 변환이 아직 없어서 원본으로 대신 보냄 : 매번 확인
+	private static final String REVALIDATE = "public, no-cache";
+	
+	@Autowired
+	private ContentAddressedImageStore imageStore;
+	
+	// 원본
+	@RequestMapping(value="/images/{key:.+}", method={RequestMethod.GET, RequestMethod.HEAD})
+	public void image(@PathVariable String key, HttpServletRequest req, HttpServletResponse res) throws IOException {
+		noSniff(res);
+		Path file = imageStore.resolve(key);
+		if(file == null) {
+			res.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		FileRangeSender.send(req, res, file, key, IMMUTABLE);
+	}
+	
+	// 크기별 변환(thumb, list, detail), 아직 없으면 원본
+	// 브라우저가 WebP 를 받으면(Accept: image/webp) WebP 사본이 있을 때 그것을 보냄(같은 주소, Vary: Accept)
+	@RequestMapping(value="/images/{variant}/{key:.+}", method={RequestMethod.GET, RequestMethod.HEAD})
+	public void variantImage(@PathVariable String variant, @PathVariable String key,
+			HttpServletRequest req, HttpServletResponse res) throws IOException {
+		noSniff(res);
+		res.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		Variant target = null;
+		for(Variant v : Variant.values()) {
+			if(v.getDir().equals(variant)) {
+				target = v;
+			}
+		}
+		Path webp = target == null || !acceptsWebp(req) ? null : imageStore.resolveWebp(target, key);
+		if(webp != null) {
+			FileRangeSender.send(req, res, webp, variant + "-" + key + ".webp", IMMUTABLE);
+			return;
+		}
+		Path file = target == null ? null : imageStore.resolve(target, key);
+		if(file != null) {
+			FileRangeSender.send(req, res, file, variant + "-" + key, IMMUTABLE);
+			return;
+		}
+		Path original = target == null ? null : imageStore.resolve(key);
+		if(original == null) {
+			res.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		FileRangeSender.send(req, res, original, key, REVALIDATE);
+	}
+	
+	private static boolean acceptsWebp(HttpServletRequest req) {
+		String accept = req.getHeader(HttpHeaders.ACCEPT);
+		return accept != null && accept.contains("image/webp");
+	}
+	
+	// 브라우저가 내용을 보고 형식을 추측하지 않도록(확장자로 정한 Content-Type 만 사용)
+	private static void noSniff(HttpServletResponse res) {
+		res.setHeader("X-Content-Type-Options", "nosniff");
+	}
+}
@@ -81,7 +81,7 @@ public class InquireController extends BaseController{
 	public String inquireWrite(@Valid InquireWriteForm idto, BindingResult br, 
 						@AuthenticationPrincipal User user,
 						Long seq, Model model) {
-		Account account = accountService.getAccountById(user.getUsername());
+		Account account = accountService.getAccountReference(user.getUsername());
 //		Hotel hotel = hotelService.getHotelBySeq(seq);
 		if(br.hasErrors()) {
 			// 입력 데이터 값 유지
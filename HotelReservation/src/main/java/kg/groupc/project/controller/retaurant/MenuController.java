@@ -1,7 +1,5 @@
 package kg.groupc.project.controller.retaurant;
 
-import javax.servlet.http.HttpServletRequest;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -37,9 +35,8 @@ public class MenuController {
 	
 	@RequestMapping(value="/admin/{seq}/new", method=RequestMethod.POST)
 	public String createMenu(MenuAddFormDto menuAddFormDto, @RequestParam("uploadFile") 
-					MultipartFile img, HttpServletRequest req) throws Exception {
-		String path = req.getServletContext().getRealPath("/resources/img/menuImg/");
-		menuService.create(menuAddFormDto, img, path);
+					MultipartFile img) throws Exception {
+		menuService.create(menuAddFormDto, img);
 		
 		return "redirect:/restaurant/{seq}";
 	}
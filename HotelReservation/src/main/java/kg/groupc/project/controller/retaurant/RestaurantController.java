@@ -1,9 +1,5 @@
 package kg.groupc.project.controller.retaurant;
 
-import java.util.List;
-
-import javax.servlet.http.HttpServletRequest;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,10 +17,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import kg.groupc.project.controller.BaseController;
 import kg.groupc.project.dto.restaurant.RestaurantAddFormDto;
-import kg.groupc.project.entity.restaurant.Menu;
+import kg.groupc.project.dto.restaurant.RestaurantDetailDto;
 import kg.groupc.project.entity.restaurant.Restaurant;
 import kg.groupc.project.repository.restaurant.RestaurantRepository;
-import kg.groupc.project.service.restaurant.MenuService;
 import kg.groupc.project.service.restaurant.RestaurantService;
 
 @Controller
@@ -36,9 +31,6 @@ public class RestaurantController extends BaseController{
 	@Autowired
 	private RestaurantService<Restaurant, Long> restaurantService;
 	
-	@Autowired
-	private MenuService<Menu, Long> menuService;
-	
 	// 맛집 리스트 + 검색 + 페이징
 	@RequestMapping(value="/restaurant")
 	public String allRestaurantPage(Model model,
@@ -70,11 +62,9 @@ public class RestaurantController extends BaseController{
 	// 맛집 상세(사용자)
 	@GetMapping("/restaurant/{seq}")
 	public String restaurantDetailPage(@PathVariable Long seq, Model model) {
-		Restaurant restaurant = restaurantService.findRestaurant(seq);
+		RestaurantDetailDto restaurant = restaurantService.getRestaurantDetail(seq);
 		model.addAttribute("restaurant", restaurant);
-		
-		List<Menu> menuList = menuService.menuList(seq);
-		model.addAttribute("menuList", menuList);
+		model.addAttribute("menuList", restaurant == null ? null : restaurant.getMenuList());
 		return "/restaurant/restaurantDetail";
 	}
 			
@@ -98,9 +88,8 @@ public class RestaurantController extends BaseController{
 	// 맛집 등록
 	@RequestMapping(value="/admin/restaurant/new", method=RequestMethod.POST)
 	public String createRestaurant(RestaurantAddFormDto restaurantAddFormDto, 
-			@RequestParam("uploadFile") MultipartFile img, HttpServletRequest req) throws Exception {		
-		String path = req.getServletContext().getRealPath("/resources/img/restaurantImg/");
-		restaurantService.create(restaurantAddFormDto, img, path);
+			@RequestParam("uploadFile") MultipartFile img) throws Exception {		
+		restaurantService.create(restaurantAddFormDto, img);
 		
 		return "redirect:/restaurant";
 	}
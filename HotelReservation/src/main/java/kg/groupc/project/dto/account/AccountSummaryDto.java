@@ -0,0 +1,16 @@
+package kg.groupc.project.dto.account;
+
+import kg.groupc.project.constant.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccountSummaryDto {//로그인/작성자 지정에 필요한 계정 정보(계정 캐시용)
+
+	private Long seq;
+	private String userId;
+	private String password;//암호화된 값
+	private Role role;
+	private Long status;//0이면 탈퇴
+}
@@ -0,0 +1,17 @@
+package kg.groupc.project.dto.account;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 마이페이지 첫 화면 데이터(예약 현황, 이용 내역, 즐겨찾기, 호텔/맛집 리뷰의 첫 페이지)
+@Getter
+@Setter
+public class MyPageDto {
+	private Slice<BookingDto> reserveBookingList;
+	private Slice<BookingDto> progressedBookingList;
+	private Slice<StarsDto> starsList;
+	private Slice<HotelScoreDto> hotelScoreList;
+	private Slice<RestaurantScoreDto> restaurantScoreList;
+}
@@ -12,5 +12,5 @@ public class BookingFormDto {
 	private Long people;
 	private Date checkin;
 	private Date checkout;
-	private Long price;
+	private Long price;//화면 표시용, 저장 시에는 요금 달력(RoomRateCalendar)으로 다시 계산
 }
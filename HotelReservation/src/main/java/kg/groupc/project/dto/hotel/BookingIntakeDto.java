@@ -0,0 +1,20 @@
+package kg.groupc.project.dto.hotel;
+
+import org.springframework.security.core.Authentication;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BookingIntakeDto {//비동기 예약 접수 1건(접수 번호로 상태 조회)
+
+	public enum Status { WAITING, CONFIRMED, REJECTED }
+
+	private String ticketId;//접수 번호
+	private String userId;
+	private Authentication authentication;//작업 스레드에서 저장할 때 사용할 요청자 인증 정보
+	private BookingFormDto bookingFormDto;
+	private volatile Status status = Status.WAITING;
+	private volatile Long bookingSeq;//확정된 예약 번호
+}
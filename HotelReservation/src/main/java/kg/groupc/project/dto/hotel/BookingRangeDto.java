@@ -0,0 +1,15 @@
+package kg.groupc.project.dto.hotel;
+
+import java.sql.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookingRangeDto {//방 예약 기간(점유 달력 적재용)
+
+	private Long roomSeq;
+	private Date reserveDate;//체크인
+	private Date reserveEndDate;//체크아웃(이 날 밤은 비어 있음)
+}
@@ -0,0 +1,18 @@
+package kg.groupc.project.dto.hotel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class HotelCursorFormDto {//호텔 목록 커서(keyset) 페이지 결과(hotel.jsp, 무한스크롤)
+
+	private List<HotelMainFormDto> hotelMainFormDtoList = new ArrayList<>();
+	private String nextCursor;//다음 페이지 커서, 없으면 null
+	private String prevCursor;//이전 페이지 커서, 없으면 null
+}
@@ -24,4 +24,5 @@ public class HotelMainFormDto {//
 	private long status;
 	
 	private double avg; //평점
+	private long reviewCount; //리뷰 수
 }
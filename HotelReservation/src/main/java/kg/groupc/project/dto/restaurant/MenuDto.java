@@ -0,0 +1,20 @@
+package kg.groupc.project.dto.restaurant;
+
+import kg.groupc.project.entity.restaurant.Menu;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MenuDto {//맛집 상세 화면 메뉴(캐시에서 공유하므로 변경 불가)
+
+	private Long seq;
+	private String name;
+	private Long price;
+	private String description;
+	private String img;
+
+	public static MenuDto of(Menu menu) {
+		return new MenuDto(menu.getSeq(), menu.getName(), menu.getPrice(), menu.getDescription(), menu.getImg());
+	}
+}
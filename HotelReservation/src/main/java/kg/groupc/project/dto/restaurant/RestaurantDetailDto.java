@@ -0,0 +1,38 @@
+package kg.groupc.project.dto.restaurant;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import kg.groupc.project.entity.restaurant.Restaurant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RestaurantDetailDto {//맛집 상세 화면(맛집 + 메뉴 목록, 캐시에서 공유하므로 변경 불가)
+
+	private Long seq;
+	private String name;
+	private String address;
+	private String phone;
+	private String img;
+	private String description;
+	private Long status;
+	private double scoreAvg;
+	private Long reviewCount;
+	private List<MenuDto> menuList;//메뉴 번호 순
+
+	// 메뉴까지 읽어 둔 맛집 -> 상세 화면
+	public static RestaurantDetailDto of(Restaurant restaurant) {
+		List<MenuDto> menuList = restaurant.getMenus().stream()
+				.map(MenuDto::of)
+				.sorted(Comparator.comparing(MenuDto::getSeq))
+				.collect(Collectors.toList());
+		return new RestaurantDetailDto(restaurant.getSeq(), restaurant.getName(), restaurant.getAddress(),
+				restaurant.getPhone(), restaurant.getImg(), restaurant.getDescription(), restaurant.getStatus(),
+				restaurant.getScoreSummary().getAvg(), restaurant.getScoreSummary().getReviewCount(),
+				Collections.unmodifiableList(menuList));
+	}
+}
@@ -0,0 +1,55 @@
+package kg.groupc.project.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 리뷰 평점 집계(호텔, 맛집에 포함)
+// 리뷰 저장 시 같은 트랜잭션에서 UPDATE로 누적하고, 시작할 때와 어긋났을 때는 재집계(UPDATE 한 번)로 복구
+@Embeddable
+@Getter
+@Setter
+public class ScoreSummary {
+
+	// 리뷰 수
+	@Column(nullable = false, columnDefinition = "number(10) default 0")
+	private Long reviewCount = 0L;
+
+	// 평점 합계
+	@Column(nullable = false, columnDefinition = "number(10) default 0")
+	private Long scoreSum = 0L;
+
+	// 평점별 리뷰 수(0 ~ 5점)
+	@Column(nullable = false, columnDefinition = "number(10) default 0")
+	private Long score0 = 0L;
+
+	@Column(nullable = false, columnDefinition = "number(10) default 0")
+	private Long score1 = 0L;
+
+	@Column(nullable = false, columnDefinition = "number(10) default 0")
+	private Long score2 = 0L;
+
+	@Column(nullable = false, columnDefinition = "number(10) default 0")
+	private Long score3 = 0L;
+
+	@Column(nullable = false, columnDefinition = "number(10) default 0")
+	private Long score4 = 0L;
+
+	@Column(nullable = false, columnDefinition = "number(10) default 0")
+	private Long score5 = 0L;
+
+	// 평균 평점(리뷰가 없으면 0)
+	public double getAvg() {
+		if(reviewCount == null || reviewCount == 0) {
+			return 0.0;
+		}
+		return (double) scoreSum / reviewCount;
+	}
+
+	// 평점별 리뷰 수를 배열로 반환(index = 평점)
+	public long[] getHistogram() {
+		return new long[] {score0, score1, score2, score3, score4, score5};
+	}
+}
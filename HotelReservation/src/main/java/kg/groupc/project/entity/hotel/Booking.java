@@ -4,21 +4,36 @@ import java.sql.Date;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import kg.groupc.project.entity.BaseEntity;
 import kg.groupc.project.entity.account.Account;
+import kg.groupc.project.util.RoomOccupancyListener;
 import lombok.Getter;
 import lombok.Setter;
 
 // 예약
 @Entity
+@EntityListeners(RoomOccupancyListener.class)
+// 예약 가능 여부(기간 겹침) 확인용, 마이페이지 예약 현황/이용 내역 조회용, 이용 완료 처리 대상 조회용 인덱스
+@Table(indexes = {
+		@Index(name = "idx_booking_room_date", columnList = "room, reserveDate, reserveEndDate"),
+		@Index(name = "idx_booking_reserver_status", columnList = "reserver, status, reserveDate"),
+		@Index(name = "idx_booking_status_date", columnList = "status, reserveDate")
+})
 @Getter
 @Setter
 public class Booking extends BaseEntity<Long>{
 	
+	// 예약 상태 : 예약(이용 전), 이용 완료(예약일이 지나면 BookingStatusService 가 일괄 변경)
+	public static final long STATUS_RESERVED = 1L;
+	public static final long STATUS_COMPLETED = 2L;
+	
 	// 방 id(외래키)
 	@ManyToOne(optional = false, targetEntity = Room.class, fetch = FetchType.LAZY)
 	@JoinColumn(name = "room")
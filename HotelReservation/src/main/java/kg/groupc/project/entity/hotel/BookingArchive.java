@@ -0,0 +1,65 @@
+package kg.groupc.project.entity.hotel;
+
+import java.sql.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import kg.groupc.project.entity.BaseEntity;
+import lombok.Getter;
+import lombok.Setter;
+
+// 지난 예약 보관(이용이 끝나고 일정 기간이 지난 Booking 을 옮겨 둠)
+// 예약 테이블을 작게 유지하기 위한 것으로, 조회는 마이페이지 이용 내역에서만 하므로 호텔/방 이름을 같이 저장(조인 없음)
+@Entity
+@Table(indexes = @Index(name = "idx_booking_archive_reserver", columnList = "reserverId, reserveDate"))
+@Getter
+@Setter
+public class BookingArchive extends BaseEntity<Long> {
+	
+	// 원래 예약 id
+	@Column(nullable = false)
+	private Long bookingSeq;
+	
+	// 예약자 아이디
+	@Column(nullable = false, length = 20)
+	private String reserverId;
+	
+	@Column(nullable = false)
+	private Long hotelSeq;
+	
+	@Column(nullable = false, length = 100)
+	private String hotelName;
+	
+	@Column(nullable = false)
+	private Long roomSeq;
+	
+	@Column(nullable = false, length = 200)
+	private String roomName;
+	
+	// 예약일
+	@Column(nullable = false)
+	private Date reserveDate;
+	
+	// 예약 종료일
+	@Column(nullable = false)
+	private Date reserveEndDate;
+	
+	// 예약 상태
+	@Column(nullable = false)
+	private Long status;
+	
+	// 가격
+	@Column(nullable = false)
+	private Long price;
+	
+	// 인원 수
+	@Column(nullable = false)
+	private Long people;
+	
+	// 보관일
+	@Column(nullable = false)
+	private Date archivedDate;
+}
@@ -3,7 +3,9 @@ package kg.groupc.project.entity.hotel;
 import java.util.List;
 
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -13,13 +15,16 @@ import javax.persistence.OneToMany;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 import kg.groupc.project.entity.BaseEntity;
+import kg.groupc.project.entity.ScoreSummary;
 import kg.groupc.project.entity.inquire.Inquire;
+import kg.groupc.project.util.HotelSearchIndexListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 // 호텔
 @Entity
+@EntityListeners(HotelSearchIndexListener.class)
 @Getter
 @Setter
 public class Hotel extends BaseEntity<Long>{
@@ -48,6 +53,10 @@ public class Hotel extends BaseEntity<Long>{
 	@Column(nullable = false, columnDefinition = "number(1) default 1")
 	private Long status;
 	
+	// 리뷰 평점 집계
+	@Embedded
+	private ScoreSummary scoreSummary = new ScoreSummary();
+	
 	@OneToMany(mappedBy = "hotel", targetEntity = Room.class, fetch = FetchType.LAZY)
 	private List<Room> rooms;
 	
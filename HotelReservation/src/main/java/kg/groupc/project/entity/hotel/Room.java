@@ -4,6 +4,7 @@ import java.util.List;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -16,12 +17,15 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 import kg.groupc.project.entity.BaseEntity;
+import kg.groupc.project.util.RoomRateListener;
+import kg.groupc.project.util.RoomStockListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 // 방정보
 @Entity
+@EntityListeners({RoomRateListener.class, RoomStockListener.class})
 @Getter
 @Setter
 public class Room extends BaseEntity<Long> {
@@ -35,7 +39,7 @@ public class Room extends BaseEntity<Long> {
 	@Column(nullable = false, length = 200)
 	private String name;
 	
-	// 가격
+	// 가격(기본 1박 가격, 요일/시즌 요금은 RoomRate)
 	@Column(nullable = false)
 	private Long price;
 	
@@ -51,6 +55,10 @@ public class Room extends BaseEntity<Long> {
 	@Column(nullable = true, length = 255)
 	private String img;
 	
+	// 같은 타입의 방 수(1이면 예약 기간 겹침으로, 2 이상이면 날짜별 재고(RoomInventory)로 예약 가능 여부 판단)
+	@Column(nullable = false, columnDefinition = "number(5) default 1")
+	private Long stock = 1L;
+	
 	@OneToMany(mappedBy = "room", targetEntity = Booking.class, fetch = FetchType.LAZY)
 	private List<Booking> bookings;
 }
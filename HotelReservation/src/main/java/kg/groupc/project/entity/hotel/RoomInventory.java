@@ -0,0 +1,41 @@
+package kg.groupc.project.entity.hotel;
+
+import java.sql.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import kg.groupc.project.entity.BaseEntity;
+import lombok.Getter;
+import lombok.Setter;
+
+// 방 타입별 날짜(1박) 재고
+// 같은 방이 여러 개(Room.stock > 1)인 경우 예약 행을 세지 않고 이 행의 booked < allotment 로 예약 가능 여부를 판단
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_room_inventory_night", columnNames = {"room", "night"}))
+@Getter
+@Setter
+public class RoomInventory extends BaseEntity<Long> {
+	
+	// 방 id(외래키)
+	@ManyToOne(optional = false, targetEntity = Room.class, fetch = FetchType.LAZY)
+	@JoinColumn(name = "room")
+	private Room room;
+	
+	// 숙박일(체크인 날짜 기준 1박)
+	@Column(nullable = false)
+	private Date night;
+	
+	// 판매 가능한 방 수
+	@Column(nullable = false)
+	private Long allotment;
+	
+	// 예약된 방 수
+	@Column(nullable = false, columnDefinition = "number(5) default 0")
+	private Long booked = 0L;
+}
@@ -0,0 +1,57 @@
+package kg.groupc.project.entity.hotel;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.FetchType;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+
+import kg.groupc.project.entity.BaseEntity;
+import kg.groupc.project.util.RoomRateListener;
+import lombok.Getter;
+import lombok.Setter;
+
+// 방 요금 규칙(요일/시즌별 1박 가격), 맞는 규칙이 없으면 Room.price
+// 기간이 있는 규칙(시즌)이 기간 없는 규칙보다 우선, 같은 종류끼리는 나중에 등록한 규칙이 우선
+@Entity
+@EntityListeners(RoomRateListener.class)
+@Getter
+@Setter
+public class RoomRate extends BaseEntity<Long> {
+	
+	// 방 id(외래키)
+	@ManyToOne(optional = false, targetEntity = Room.class, fetch = FetchType.LAZY)
+	@JoinColumn(name = "room")
+	private Room room;
+	
+	// 적용 시작일(null이면 제한 없음)
+	@Column(nullable = true)
+	private Date startDate;
+	
+	// 적용 종료일(포함, null이면 제한 없음)
+	@Column(nullable = true)
+	private Date endDate;
+	
+	// 적용 요일 비트(월 = 1, 화 = 2, ..., 일 = 64), 0이면 모든 요일
+	@Column(nullable = false, columnDefinition = "number(3) default 0")
+	private Long weekdays = 0L;
+	
+	// 1박 가격
+	@Column(nullable = false)
+	private Long price;
+	
+	// 날짜에 적용되는 규칙이면 true
+	public boolean matches(LocalDate night) {
+		return (startDate == null || !night.isBefore(startDate.toLocalDate()))
+				&& (endDate == null || !night.isAfter(endDate.toLocalDate()))
+				&& (weekdays == 0 || (weekdays & (1L << (night.getDayOfWeek().getValue() - 1))) != 0);
+	}
+	
+	public boolean isSeason() {
+		return startDate != null || endDate != null;
+	}
+}
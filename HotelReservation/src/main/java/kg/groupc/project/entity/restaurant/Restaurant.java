@@ -3,6 +3,7 @@ package kg.groupc.project.entity.restaurant;
 import java.util.List;
 
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.OneToMany;
@@ -10,6 +11,7 @@ import javax.persistence.OneToMany;
 import org.hibernate.annotations.DynamicInsert;
 
 import kg.groupc.project.entity.BaseEntity;
+import kg.groupc.project.entity.ScoreSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -49,6 +51,11 @@ public class Restaurant extends BaseEntity<Long>{
 	@Column(nullable = false, columnDefinition = "number(1) default 1")
 	private Long status;
 	
+	// 리뷰 평점 집계
+	@Embedded
+	@Builder.Default
+	private ScoreSummary scoreSummary = new ScoreSummary();
+	
 	@OneToMany(mappedBy = "restaurant", targetEntity = Stars.class, fetch = FetchType.LAZY)
 	private List<Stars> stars;
 	
@@ -15,12 +15,18 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.stereotype.Component;
 
+import kg.groupc.project.util.BoundedPasswordEncoder;
+
 @Component
 public class LoginFailureHandler implements AuthenticationFailureHandler {
 
 	@Override
 	public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
 			AuthenticationException exception) throws IOException, ServletException {
+		// 비밀번호 확인 대기열이 가득 참
+		if(exception instanceof BoundedPasswordEncoder.BusyException) {
+			response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		}
 		String errorMsg = getErrorMessage(exception);
 		request.setAttribute("errorMsg", errorMsg);
 		request.getRequestDispatcher("/login").forward(request, response);
@@ -37,6 +43,8 @@ public class LoginFailureHandler implements AuthenticationFailureHandler {
 			msg = "사용불가 된 계정입니다.";
 		}else if(exception instanceof LockedException) {
 			msg = "잠금 처리된 계정입니다.";
+		}else if(exception instanceof BoundedPasswordEncoder.BusyException) {
+			msg = "로그인 요청이 많아 처리하지 못했습니다.\n 잠시 후 다시 시도해주세요.";
 		}else {
 			msg = "알 수 없는 이유로 로그인이 실패하였습니다.\n 다시 시도해주세요.";
 		}
@@ -1,10 +1,24 @@
 package kg.groupc.project.repository.account;
 
 import java.io.Serializable;
+import java.util.List;
 
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kg.groupc.project.dto.account.AccountSummaryDto;
 import kg.groupc.project.entity.account.Account;
 import kg.groupc.project.repository.BaseRepository;
 
 public interface AccountRepository<T, ID extends Serializable> extends BaseRepository<Account, Long> {
 	Account findByUserId(String userId);
+	
+	// 계정 캐시 적재용(엔티티 대신 필요한 컬럼만)
+	@Query("select new kg.groupc.project.dto.account.AccountSummaryDto(a.seq, a.userId, a.password, a.role, a.status) "
+			+ "from Account a where a.userId = :userId")
+	AccountSummaryDto findSummaryByUserId(@Param("userId") String userId);
+	
+	// 아이디 블룸 필터 적재용
+	@Query("select a.userId from Account a")
+	List<String> findAllUserIds();
 }
@@ -0,0 +1,11 @@
+package kg.groupc.project.repository.hotel;
+
+import java.io.Serializable;
+
+import kg.groupc.project.entity.hotel.BookingArchive;
+import kg.groupc.project.repository.BaseRepository;
+
+public interface BookingArchiveRepository<T, ID extends Serializable> extends BaseRepository<BookingArchive, Long>{
+
+	long countByReserverId(String reserverId);
+}
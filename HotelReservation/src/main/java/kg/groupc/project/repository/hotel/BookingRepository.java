@@ -4,10 +4,20 @@ import java.io.Serializable;
 import java.sql.Date;
 import java.util.List;
 
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kg.groupc.project.dto.hotel.BookingRangeDto;
 import kg.groupc.project.entity.hotel.Booking;
-import kg.groupc.project.entity.hotel.Room;
 import kg.groupc.project.repository.BaseRepository;
 
 public interface BookingRepository<T, ID extends Serializable> extends BaseRepository<Booking, Long>{
-	List<Booking> findByRoomAndReserveDateGreaterThanEqualAndReserveEndDateLessThanEqual(Room room, Date reserveDate, Date reserveEndDate);
+	// from 이후까지 이어지는 예약 기간(엔티티 대신 필요한 컬럼만)
+	@Query("select new kg.groupc.project.dto.hotel.BookingRangeDto(b.room.seq, b.reserveDate, b.reserveEndDate) "
+			+ "from Booking b where b.reserveEndDate > :from")
+	List<BookingRangeDto> findBookingRanges(@Param("from") Date from);
+	
+	@Query("select new kg.groupc.project.dto.hotel.BookingRangeDto(b.room.seq, b.reserveDate, b.reserveEndDate) "
+			+ "from Booking b where b.room.seq = :roomSeq and b.reserveEndDate > :from")
+	List<BookingRangeDto> findBookingRangesByRoom(@Param("roomSeq") Long roomSeq, @Param("from") Date from);
 }
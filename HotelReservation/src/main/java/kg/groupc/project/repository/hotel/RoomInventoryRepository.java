@@ -0,0 +1,9 @@
+package kg.groupc.project.repository.hotel;
+
+import java.io.Serializable;
+
+import kg.groupc.project.entity.hotel.RoomInventory;
+import kg.groupc.project.repository.BaseRepository;
+
+public interface RoomInventoryRepository<T, ID extends Serializable> extends BaseRepository<RoomInventory, Long>{
+}
@@ -0,0 +1,12 @@
+package kg.groupc.project.repository.hotel;
+
+import java.io.Serializable;
+import java.util.List;
+
+import kg.groupc.project.entity.hotel.RoomRate;
+import kg.groupc.project.repository.BaseRepository;
+
+public interface RoomRateRepository<T, ID extends Serializable> extends BaseRepository<RoomRate, Long>{
+
+	List<RoomRate> findAllByRoom_SeqOrderBySeq(Long roomSeq);
+}
@@ -1,7 +1,15 @@
 package kg.groupc.project.repository.hotel;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import kg.groupc.project.entity.hotel.Hotel;
 import kg.groupc.project.entity.hotel.Room;
@@ -11,4 +19,17 @@ public interface RoomRepository<T, ID extends Serializable> extends BaseReposito
 
 	List<Room> findAllByHotel(Hotel hotel);
 	
+	// 예약 저장용 : 방 행을 SELECT ... FOR UPDATE 로 잠금(같은 방 예약은 커밋까지 순서대로 처리)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select r from Room r where r.seq = :seq")
+	Optional<Room> findByIdForUpdate(@Param("seq") Long seq);
+	
+	// 단체 예약용 : 여러 방을 한 번에 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select r from Room r where r.seq in :seqList order by r.seq")
+	List<Room> findAllByIdForUpdate(@Param("seqList") Collection<Long> seqList);
+	
+	// 날짜별 재고(RoomInventory)로 관리하는 방(같은 타입 방이 2개 이상)
+	@Query("select r.seq from Room r where r.stock > 1")
+	List<Long> findInventoryRoomSeqs();
 }
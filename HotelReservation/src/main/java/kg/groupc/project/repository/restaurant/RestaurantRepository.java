@@ -5,6 +5,8 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import kg.groupc.project.entity.restaurant.Restaurant;
@@ -29,4 +31,8 @@ public interface RestaurantRepository<T, ID extends Serializable> extends BaseRe
 	Page<Restaurant> findAll(Pageable pageable);
 	
 	Restaurant findBySeq(Long seq);
+	
+	//상세 화면 : 맛집 + 메뉴 한 번에 조회
+	@Query("SELECT DISTINCT r FROM Restaurant r LEFT JOIN FETCH r.menus WHERE r.seq = :seq")
+	Restaurant findWithMenusBySeq(@Param("seq") Long seq);
 }
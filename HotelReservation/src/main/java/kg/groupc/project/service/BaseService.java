@@ -7,7 +7,10 @@ import javax.persistence.PersistenceContext;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.jpa.impl.JPADeleteClause;
 import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 
 import kg.groupc.project.repository.BaseRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +30,12 @@ public class BaseService<T, ID extends Serializable> {
 	protected JPAQuery<T> select(){
 		return new JPAQuery<T>(em);
 	}
+	protected JPAUpdateClause update(EntityPath<?> entity){
+		return new JPAUpdateClause(em, entity);
+	}
+	protected JPADeleteClause delete(EntityPath<?> entity){
+		return new JPADeleteClause(em, entity);
+	}
 	protected void refresh(Object param) {
 		em.refresh(param);
 	}
@@ -1,77 +1,78 @@
 package kg.groupc.project.service.account;
 
 import java.io.Serializable;
-import java.sql.Date;
 import java.text.SimpleDateFormat;
-import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import javax.transaction.Transactional;
-
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.Errors;
 import org.springframework.validation.FieldError;
 
-import kg.groupc.project.dto.account.BookingDto;
-import kg.groupc.project.dto.account.HotelScoreDto;
+import kg.groupc.project.dto.account.AccountSummaryDto;
 import kg.groupc.project.dto.account.InfoChangeFormDto;
 import kg.groupc.project.dto.account.PwdChangeFormDto;
-import kg.groupc.project.dto.account.RestaurantScoreDto;
-import kg.groupc.project.dto.account.StarsDto;
 import kg.groupc.project.entity.account.Account;
-import kg.groupc.project.entity.hotel.Booking;
-import kg.groupc.project.entity.hotel.Hotel;
-import kg.groupc.project.entity.hotel.HotelScore;
-import kg.groupc.project.entity.hotel.Room;
-import kg.groupc.project.entity.restaurant.Restaurant;
-import kg.groupc.project.entity.restaurant.RestaurantScore;
-import kg.groupc.project.entity.restaurant.Stars;
+import kg.groupc.project.entity.account.QAccount;
 import kg.groupc.project.repository.account.AccountRepository;
 import kg.groupc.project.service.BaseService;
+import kg.groupc.project.util.AccountCache;
+import kg.groupc.project.util.UserIdBloomFilter;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-public class AccountService<T, ID extends Serializable> extends BaseService<Account, Long> implements UserDetailsService{
+public class AccountService<T, ID extends Serializable> extends BaseService<Account, Long> implements UserDetailsService, UserDetailsPasswordService{
 	
 	private final AccountRepository<Account, Long> accountRepository;
 	private final PasswordEncoder passwordEncoder;
-	
-	private Map<Long, String> getScoreMap(){
-		Map<Long, String> scoreMap = new HashMap<>();
-		scoreMap.put(0L, "☆☆☆☆☆");
-		scoreMap.put(1L, "★☆☆☆☆");
-		scoreMap.put(2L, "★★☆☆☆");
-		scoreMap.put(3L, "★★★☆☆");
-		scoreMap.put(4L, "★★★★☆");
-		scoreMap.put(5L, "★★★★★");
-		
-		return scoreMap;
-	}
+	private final AccountCache accountCache;
+	private final UserIdBloomFilter userIdBloomFilter;
 	
 	public Account getAccountById(String userId) {
 		return accountRepository.findByUserId(userId);
 	}
 	
+	// 로그인/작성자 지정용 계정 정보(캐시), 없으면 null
+	public AccountSummaryDto getAccountSummary(String userId) {
+		return accountCache.get(userId);
+	}
+	
+	// 작성자/예약자 지정용 계정 참조(캐시된 seq 로 SELECT 없이), 없으면 null
+	public Account getAccountReference(String userId) {
+		return accountCache.getReference(userId);
+	}
+	
 	public List<Account> getAllAccounts(){
 		return accountRepository.findAll();
 	}
 	
+	// 이미 있는 아이디면 null
+	// 블룸 필터는 이 서버에서 본 아이디만 알므로(다른 서버 가입, 시작 중 가입) 저장 전에는 항상 DB 로 확인하고,
+	// 확인과 저장 사이에 같은 아이디가 가입된 경우는 userId 유니크 제약 위반으로 판단
 	public Account saveAccount(Account account) {
-		if(!idDuplicateCheck(account.getUserId())) {
-			return accountRepository.save(account);
-		}else {
+		if(accountRepository.findByUserId(account.getUserId()) != null) {
+			userIdBloomFilter.put(account.getUserId());
+			return null;
+		}
+		try {
+			Account saved = accountRepository.save(account);
+			userIdBloomFilter.put(saved.getUserId());
+			return saved;
+		}catch(DataIntegrityViolationException e) {
+			userIdBloomFilter.put(account.getUserId());
 			return null;
 		}
 	}
@@ -82,126 +83,41 @@ public class AccountService<T, ID extends Serializable> extends BaseService<Acco
 		account.setEmail(infoChangeFormDto.getEmail());
 		account.setPhone(infoChangeFormDto.getPhone());
 		account.setAddress(infoChangeFormDto.getAddress() + " " +infoChangeFormDto.getAddressDetail());
-		return accountRepository.save(account);
+		Account saved = accountRepository.save(account);
+		accountCache.evict(account.getUserId());
+		return saved;
 	}
 	
 	public Account changeAccountPasswordChange(String userId, PwdChangeFormDto pwdChangeFormDto) {
 		Account account = accountRepository.findByUserId(userId);
 		account.setPassword(passwordEncoder.encode(pwdChangeFormDto.getPassword()));
-		return accountRepository.save(account);
+		Account saved = accountRepository.save(account);
+		accountCache.evict(userId);
+		return saved;
 	}
 	
 	public boolean resignAccount(String userId) {
 		Account account = accountRepository.findByUserId(userId);
 		account.setStatus(0L);
 		accountRepository.save(account);
+		accountCache.evict(userId);
 		if(account.getStatus() == 0L) {
 			return true;
 		}
 		return false;
 	}
 	
-	@Transactional
-	public List<ArrayList<BookingDto>> getBookingList(String userId){
-		Date today = Date.valueOf(LocalDate.now());
-		List<Booking> bookingList = accountRepository.findByUserId(userId).getBookings();
-		List<ArrayList<BookingDto>> bookingDtoList = new ArrayList<ArrayList<BookingDto>>();
-		// list init
-		bookingDtoList.add(new ArrayList<BookingDto>());
-		bookingDtoList.add(new ArrayList<BookingDto>());
-		for(Booking booking : bookingList) {
-			BookingDto bookingDto = new BookingDto();
-			Room room = booking.getRoom();
-			String roomName = room.getName();
-			Hotel hotel = room.getHotel();
-			
-			bookingDto.setSeq(booking.getSeq());
-			bookingDto.setHotelSeq(hotel.getSeq());
-			bookingDto.setHotel(hotel.getName());
-			bookingDto.setRoom(roomName);
-			bookingDto.setReserver(booking.getReserver().getUserId());
-			bookingDto.setReserveDate(booking.getReserveDate());
-			bookingDto.setReserveEndDate(booking.getReserveEndDate());
-			bookingDto.setStatus(booking.getStatus());
-			bookingDto.setPrice(booking.getPrice());
-			bookingDto.setPeople(booking.getPeople());
-			// 예약 내역
-			if(booking.getReserveDate().before(today)) {
-				bookingDtoList.get(1).add(bookingDto);
-			}
-			// 이용 내역
-			else { 
-				bookingDtoList.get(0).add(bookingDto);
-			}
-		}
-		return bookingDtoList;
-	}
-	
-	@Transactional
-	public List<StarsDto> getStarsList(String userId){
-		List<Stars> starsList = accountRepository.findByUserId(userId).getStars();
-		List<StarsDto> starsDtoList = new ArrayList<>();
-		for(Stars star : starsList) {
-			StarsDto starsDto = new StarsDto();
-			Restaurant restaurant = star.getRestaurant();
-			
-			starsDto.setSeq(star.getSeq());
-			starsDto.setRestaurantSeq(restaurant.getSeq());
-			starsDto.setRestaurantName(restaurant.getName());
-			starsDto.setRestaurantPhone(restaurant.getPhone());
-			starsDtoList.add(starsDto);
-		}
-		return starsDtoList;
-	}
-	
-	@Transactional
-	public List<HotelScoreDto> getHotelScoreList(String userId){
-		Map<Long, String> scoreMap = getScoreMap();
-		List<HotelScore> hotelScoreList = accountRepository.findByUserId(userId).getHotelScores();
-		List<HotelScoreDto> hotelScoreDtoList = new ArrayList<>();
-		for(HotelScore hotelScore : hotelScoreList) {
-			HotelScoreDto hotelScoreDto = new HotelScoreDto();
-			Hotel hotel = hotelScore.getHotel();
-			
-			hotelScoreDto.setSeq(hotelScore.getSeq());
-			hotelScoreDto.setHotelSeq(hotel.getSeq());
-			hotelScoreDto.setHotelName(hotel.getName());
-			hotelScoreDto.setScore(hotelScore.getScore());
-			hotelScoreDto.setScoreString(scoreMap.get(hotelScore.getScore()));
-			hotelScoreDto.setDesc(hotelScore.getDescription() == null ? null : hotelScore.getDescription().replace("\n", "<br>"));
-			hotelScoreDto.setWriter(hotelScore.getWriter().getName());
-			hotelScoreDto.setDay(hotelScore.getDay());
-			hotelScoreDtoList.add(hotelScoreDto);
-		}
-		return hotelScoreDtoList;
-	}
-	
-	@Transactional
-	public List<RestaurantScoreDto> getRestaurantScoreList(String userId){
-		Map<Long, String> scoreMap = getScoreMap();
-		List<RestaurantScore> restaurantScoreList = accountRepository.findByUserId(userId).getRestaurantScores();
-		List<RestaurantScoreDto> restaurantScoreDtoList = new ArrayList<>();
-		for(RestaurantScore restaurantScore : restaurantScoreList) {
-			RestaurantScoreDto restaurantScoreDto = new RestaurantScoreDto();
-			Restaurant restaurant = restaurantScore.getRestaurant();
-			
-			restaurantScoreDto.setSeq(restaurantScore.getSeq());
-			restaurantScoreDto.setRestaurantSeq(restaurant.getSeq());
-			restaurantScoreDto.setRestaurantName(restaurant.getName());
-			restaurantScoreDto.setScore(restaurantScore.getScore());
-			restaurantScoreDto.setScoreString(scoreMap.get(restaurantScore.getScore()));
-			restaurantScoreDto.setDesc(restaurantScore.getDescription() == null ? null : restaurantScore.getDescription().replace("\n", "<br>"));
-			restaurantScoreDto.setWriter(restaurantScore.getWriter().getName());
-			restaurantScoreDto.setDay(restaurantScore.getDay());
-			restaurantScoreDtoList.add(restaurantScoreDto);
-		}
-		return restaurantScoreDtoList;
-	}
-	
+	// 가입 화면 중복 확인용 : 블룸 필터에 없으면 DB 조회 없이 사용 가능, 있을 수도 있으면 DB 로 확인
+	// 다른 서버에서 가입한 아이디는 필터에 없을 수 있음(가입 저장 시 saveAccount 에서 다시 확인)
 	public boolean idDuplicateCheck(String userId) {
+		if(!userIdBloomFilter.mightContain(userId)) {
+			return false;
+		}
 		Account account = accountRepository.findByUserId(userId);
-		if(account == null) 
+		if(account == null) {
+			userIdBloomFilter.recordFalsePositive();
 			return false;
+		}
 		else 
 			return true;
 	}
@@ -218,7 +134,7 @@ public class AccountService<T, ID extends Serializable> extends BaseService<Acco
 	
 	@Override
 	public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-		Account account = accountRepository.findByUserId(userId);
+		AccountSummaryDto account = accountCache.get(userId);
 		
 		if(account == null) {
 			throw new UsernameNotFoundException(userId);
@@ -232,4 +148,19 @@ public class AccountService<T, ID extends Serializable> extends BaseService<Acco
 				.roles(account.getRole().toString())
 				.build();
 	}
+	
+	// 로그인 성공 시 저장된 해시의 cost 가 낮으면 새 해시로 교체(DaoAuthenticationProvider 가 호출)
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		QAccount account = QAccount.account;
+		update(account)
+				.set(account.password, newPassword)
+				.where(account.userId.eq(user.getUsername()))
+				.execute();
+		accountCache.evict(user.getUsername());
+		return User.withUserDetails(user)
+				.password(newPassword)
+				.build();
+	}
 }
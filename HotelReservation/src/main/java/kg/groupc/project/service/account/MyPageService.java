@@ -0,0 +1,252 @@
+package kg.groupc.project.service.account;
+
+import java.io.Serializable;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+
+import kg.groupc.project.dto.account.BookingDto;
+import kg.groupc.project.dto.account.HotelScoreDto;
+import kg.groupc.project.dto.account.MyPageDto;
+import kg.groupc.project.dto.account.RestaurantScoreDto;
+import kg.groupc.project.dto.account.StarsDto;
+import kg.groupc.project.entity.account.Account;
+import kg.groupc.project.entity.account.QAccount;
+import kg.groupc.project.entity.hotel.QBooking;
+import kg.groupc.project.entity.hotel.QHotel;
+import kg.groupc.project.entity.hotel.QHotelScore;
+import kg.groupc.project.entity.hotel.QRoom;
+import kg.groupc.project.entity.restaurant.QRestaurant;
+import kg.groupc.project.entity.restaurant.QRestaurantScore;
+import kg.groupc.project.entity.restaurant.QStars;
+import kg.groupc.project.service.BaseService;
+import kg.groupc.project.service.hotel.BookingStatusService;
+
+// 마이페이지 화면 데이터 조회
+// 예약 현황/이용 내역/즐겨찾기/호텔 리뷰/맛집 리뷰를 각각 필요한 컬럼만 조인해서 DB 에서 페이지 단위로 조회
+// 첫 화면은 섹션마다 첫 페이지만(SQL 5번), 다음 페이지는 섹션별 JSON 으로 따로 조회
+// 예약 현황과 이용 내역은 정렬 방향과 LIMIT 이 달라서 따로 조회(JPQL 에는 UNION, 그룹별 LIMIT 이 없음)
+// 한 번에 읽고 메모리에서 나누면 지난 예약 전체를 읽게 되므로 4번 대신 5번으로 정함
+// 전체 건수는 세지 않고 한 건 더 읽어서 다음 페이지 여부만 확인(Slice)
+// mypage.parallel-queries 를 켜면 첫 화면 조회를 제한된 스레드 풀에서 동시에 실행
+// 트랜잭션 없이 조회마다 EntityManager 를 따로 쓰므로 스레드를 나눠도 안전
+@Service
+public class MyPageService<T, ID extends Serializable> extends BaseService<Account, Long> {
+
+	@Value("${mypage.parallel-queries:false}")
+	private boolean parallel;
+	@Value("${mypage.threads:4}")
+	private int threadCount;
+	@Value("${mypage.queue-capacity:100}")
+	private int queueCapacity;
+
+	// 섹션별 페이지 크기
+	public static final int BOOKING_PAGE_SIZE = 5;
+	public static final int STARS_PAGE_SIZE = 5;
+	public static final int SCORE_PAGE_SIZE = 3;
+
+	private ThreadPoolExecutor executor;
+
+	private static final Map<Long, String> SCORE_MAP = new HashMap<>();
+	static {
+		SCORE_MAP.put(0L, "☆☆☆☆☆");
+		SCORE_MAP.put(1L, "★☆☆☆☆");
+		SCORE_MAP.put(2L, "★★☆☆☆");
+		SCORE_MAP.put(3L, "★★★☆☆");
+		SCORE_MAP.put(4L, "★★★★☆");
+		SCORE_MAP.put(5L, "★★★★★");
+	}
+
+	@PostConstruct
+	public void start() {
+		if(!parallel) {
+			return;
+		}
+		// 대기열이 가득 차면 요청 스레드가 직접 조회(스레드/대기열이 무한정 늘지 않음)
+		executor = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "mypage-query");
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	@PreDestroy
+	public void stop() {
+		if(executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	// 첫 화면 : 섹션마다 첫 페이지
+	public MyPageDto getMyPage(String userId) {
+		CompletableFuture<Slice<BookingDto>> reserveFuture = run(() -> getReserveBookingSlice(userId, PageRequest.of(0, BOOKING_PAGE_SIZE)));
+		CompletableFuture<Slice<BookingDto>> progressedFuture = run(() -> getProgressedBookingSlice(userId, PageRequest.of(0, BOOKING_PAGE_SIZE)));
+		CompletableFuture<Slice<StarsDto>> starsFuture = run(() -> getStarsSlice(userId, PageRequest.of(0, STARS_PAGE_SIZE)));
+		CompletableFuture<Slice<HotelScoreDto>> hotelScoreFuture = run(() -> getHotelScoreSlice(userId, PageRequest.of(0, SCORE_PAGE_SIZE)));
+		CompletableFuture<Slice<RestaurantScoreDto>> restaurantScoreFuture = run(() -> getRestaurantScoreSlice(userId, PageRequest.of(0, SCORE_PAGE_SIZE)));
+
+		MyPageDto myPageDto = new MyPageDto();
+		myPageDto.setReserveBookingList(reserveFuture.join());
+		myPageDto.setProgressedBookingList(progressedFuture.join());
+		myPageDto.setStarsList(starsFuture.join());
+		myPageDto.setHotelScoreList(hotelScoreFuture.join());
+		myPageDto.setRestaurantScoreList(restaurantScoreFuture.join());
+		return myPageDto;
+	}
+
+	private <R> CompletableFuture<R> run(Supplier<R> query) {
+		if(executor == null) {
+			return CompletableFuture.completedFuture(query.get());
+		}
+		return CompletableFuture.supplyAsync(query, executor);
+	}
+
+	// 예약 현황(예약일 빠른 순)
+	public Slice<BookingDto> getReserveBookingSlice(String userId, Pageable pageable) {
+		QBooking booking = QBooking.booking;
+		Date today = Date.valueOf(LocalDate.now());
+		return getBookingSlice(userId, BookingStatusService.reserved(booking, today), booking.reserveDate.asc(), booking.seq.asc(), pageable);
+	}
+
+	// 이용 내역(최신 순, 보관된 예약 제외)
+	public Slice<BookingDto> getProgressedBookingSlice(String userId, Pageable pageable) {
+		QBooking booking = QBooking.booking;
+		Date today = Date.valueOf(LocalDate.now());
+		return getBookingSlice(userId, BookingStatusService.used(booking, today), booking.reserveDate.desc(), booking.seq.desc(), pageable);
+	}
+
+	private Slice<BookingDto> getBookingSlice(String userId, Predicate condition, OrderSpecifier<?> order, OrderSpecifier<?> tieBreak, Pageable pageable) {
+		QBooking booking = QBooking.booking;
+		QRoom room = QRoom.room;
+		QHotel hotel = QHotel.hotel;
+		QAccount account = QAccount.account;
+		return toSlice(select()
+				.select(Projections.bean(BookingDto.class,
+						booking.seq,
+						hotel.seq.as("hotelSeq"),
+						hotel.name.as("hotel"),
+						room.name.as("room"),
+						account.userId.as("reserver"),
+						booking.reserveDate,
+						booking.reserveEndDate,
+						booking.status,
+						booking.price,
+						booking.people))
+				.from(booking)
+				.join(booking.reserver, account)
+				.join(booking.room, room)
+				.join(room.hotel, hotel)
+				.where(account.userId.eq(userId), condition)
+				.orderBy(order, tieBreak)
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize() + 1)
+				.fetch(), pageable);
+	}
+
+	// 즐겨찾기한 맛집
+	public Slice<StarsDto> getStarsSlice(String userId, Pageable pageable) {
+		QStars stars = QStars.stars;
+		QRestaurant restaurant = QRestaurant.restaurant;
+		QAccount account = QAccount.account;
+		return toSlice(select()
+				.select(Projections.bean(StarsDto.class,
+						stars.seq,
+						restaurant.seq.as("restaurantSeq"),
+						restaurant.name.as("restaurantName"),
+						restaurant.phone.as("restaurantPhone")))
+				.from(stars)
+				.join(stars.userId, account)
+				.join(stars.restaurant, restaurant)
+				.where(account.userId.eq(userId))
+				.orderBy(stars.seq.asc())
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize() + 1)
+				.fetch(), pageable);
+	}
+
+	// 작성한 호텔 리뷰
+	public Slice<HotelScoreDto> getHotelScoreSlice(String userId, Pageable pageable) {
+		QHotelScore hotelScore = QHotelScore.hotelScore;
+		QHotel hotel = QHotel.hotel;
+		QAccount account = QAccount.account;
+		List<HotelScoreDto> hotelScoreDtoList = select()
+				.select(Projections.bean(HotelScoreDto.class,
+						hotelScore.seq,
+						hotel.seq.as("hotelSeq"),
+						hotel.name.as("hotelName"),
+						hotelScore.score,
+						hotelScore.description.as("desc"),
+						account.name.as("writer"),
+						hotelScore.day))
+				.from(hotelScore)
+				.join(hotelScore.writer, account)
+				.join(hotelScore.hotel, hotel)
+				.where(account.userId.eq(userId))
+				.orderBy(hotelScore.seq.desc())
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize() + 1)
+				.fetch();
+		for(HotelScoreDto hotelScoreDto : hotelScoreDtoList) {
+			hotelScoreDto.setScoreString(SCORE_MAP.get(hotelScoreDto.getScore()));
+			hotelScoreDto.setDesc(hotelScoreDto.getDesc() == null ? null : hotelScoreDto.getDesc().replace("\n", "<br>"));
+		}
+		return toSlice(hotelScoreDtoList, pageable);
+	}
+
+	// 작성한 맛집 리뷰
+	public Slice<RestaurantScoreDto> getRestaurantScoreSlice(String userId, Pageable pageable) {
+		QRestaurantScore restaurantScore = QRestaurantScore.restaurantScore;
+		QRestaurant restaurant = QRestaurant.restaurant;
+		QAccount account = QAccount.account;
+		List<RestaurantScoreDto> restaurantScoreDtoList = select()
+				.select(Projections.bean(RestaurantScoreDto.class,
+						restaurantScore.seq,
+						restaurant.seq.as("restaurantSeq"),
+						restaurant.name.as("restaurantName"),
+						restaurantScore.score,
+						restaurantScore.description.as("desc"),
+						account.name.as("writer"),
+						restaurantScore.day))
+				.from(restaurantScore)
+				.join(restaurantScore.writer, account)
+				.join(restaurantScore.restaurant, restaurant)
+				.where(account.userId.eq(userId))
+				.orderBy(restaurantScore.seq.desc())
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize() + 1)
+				.fetch();
+		for(RestaurantScoreDto restaurantScoreDto : restaurantScoreDtoList) {
+			restaurantScoreDto.setScoreString(SCORE_MAP.get(restaurantScoreDto.getScore()));
+			restaurantScoreDto.setDesc(restaurantScoreDto.getDesc() == null ? null : restaurantScoreDto.getDesc().replace("\n", "<br>"));
+		}
+		return toSlice(restaurantScoreDtoList, pageable);
+	}
+
+	// 페이지 크기보다 한 건 더 읽은 결과 -> Slice(다음 페이지 여부)
+	private static <R> Slice<R> toSlice(List<R> list, Pageable pageable) {
+		boolean hasNext = list.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? list.subList(0, pageable.getPageSize()) : list, pageable, hasNext);
+	}
+}
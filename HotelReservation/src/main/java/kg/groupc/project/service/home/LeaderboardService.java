@@ -0,0 +1,149 @@
+package kg.groupc.project.service.home;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.querydsl.core.Tuple;
+
+import kg.groupc.project.entity.hotel.Hotel;
+import kg.groupc.project.entity.hotel.QHotel;
+import kg.groupc.project.entity.restaurant.QRestaurant;
+import kg.groupc.project.entity.restaurant.QStars;
+import kg.groupc.project.entity.restaurant.Restaurant;
+import kg.groupc.project.service.BaseService;
+import kg.groupc.project.util.Leaderboard;
+import kg.groupc.project.util.TransactionUtil;
+
+// 홈 화면 순위(평점 좋은 호텔/맛집, 즐겨찾기 많은 맛집)
+// 리뷰/즐겨찾기 저장이 커밋되면 순위표(메모리)에 바로 반영하고, 홈 화면은 DB 조회 없이 순위표에서 읽음
+// 운영 중(status = 1)인 호텔/맛집만 순위에 올림(목록 화면과 같은 기준)
+// 시작 시와 주기적으로 DB 집계(호텔/맛집의 평점 집계 컬럼, 맛집별 즐겨찾기 수)로 다시 맞춤
+// (롤백/다른 서버의 저장/관리자 재집계로 어긋난 값과 전체 평균을 바로잡음)
+@Service
+public class LeaderboardService<T, ID extends Serializable> extends BaseService<Hotel, Long> {
+
+	@Value("${leaderboard.size:5}")
+	private int size;
+
+	private final Leaderboard hotelBoard;
+	private final Leaderboard restaurantBoard;
+
+	public LeaderboardService(@Value("${leaderboard.prior-weight:5}") double priorWeight) {
+		this.hotelBoard = new Leaderboard(priorWeight);
+		this.restaurantBoard = new Leaderboard(priorWeight);
+	}
+
+	// DB 집계로 다시 맞춤
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${leaderboard.reconcile-ms:600000}", initialDelayString = "${leaderboard.reconcile-ms:600000}")
+	public void reconcile() {
+		QHotel hotel = QHotel.hotel;
+		List<Leaderboard.Row> hotelRows = new ArrayList<>();
+		for(Tuple row : select()
+				.select(hotel.seq, hotel.name, hotel.scoreSummary.reviewCount, hotel.scoreSummary.scoreSum)
+				.from(hotel)
+				.where(hotel.status.eq(1L))
+				.fetch()) {
+			hotelRows.add(new Leaderboard.Row(row.get(hotel.seq), row.get(hotel.name),
+					nullToZero(row.get(hotel.scoreSummary.reviewCount)), nullToZero(row.get(hotel.scoreSummary.scoreSum)), 0));
+		}
+
+		QStars stars = QStars.stars;
+		Map<Long, Long> favoriteMap = new HashMap<>();
+		for(Tuple row : select()
+				.select(stars.restaurant.seq, stars.count())
+				.from(stars)
+				.groupBy(stars.restaurant.seq)
+				.fetch()) {
+			favoriteMap.put(row.get(stars.restaurant.seq), row.get(stars.count()));
+		}
+		QRestaurant restaurant = QRestaurant.restaurant;
+		List<Leaderboard.Row> restaurantRows = new ArrayList<>();
+		for(Tuple row : select()
+				.select(restaurant.seq, restaurant.name, restaurant.scoreSummary.reviewCount, restaurant.scoreSummary.scoreSum)
+				.from(restaurant)
+				.where(restaurant.status.eq(1L))
+				.fetch()) {
+			restaurantRows.add(new Leaderboard.Row(row.get(restaurant.seq), row.get(restaurant.name),
+					nullToZero(row.get(restaurant.scoreSummary.reviewCount)), nullToZero(row.get(restaurant.scoreSummary.scoreSum)),
+					favoriteMap.getOrDefault(row.get(restaurant.seq), 0L)));
+		}
+
+		hotelBoard.reload(hotelRows);
+		restaurantBoard.reload(restaurantRows);
+	}
+
+	// 호텔 리뷰 저장(커밋 후 반영), 운영 중이 아니면 순위에서 뺌
+	public void hotelScoreAdded(Hotel hotel, long score) {
+		Long seq = hotel.getSeq();
+		String name = hotel.getName();
+		if(!isActive(hotel.getStatus())) {
+			TransactionUtil.afterCommit(() -> hotelBoard.remove(seq));
+			return;
+		}
+		TransactionUtil.afterCommit(() -> hotelBoard.addScore(seq, name, score));
+	}
+
+	// 맛집 리뷰 저장(커밋 후 반영), 운영 중이 아니면 순위에서 뺌
+	public void restaurantScoreAdded(Restaurant restaurant, long score) {
+		Long seq = restaurant.getSeq();
+		String name = restaurant.getName();
+		if(!isActive(restaurant.getStatus())) {
+			restaurantRemoved(seq);
+			return;
+		}
+		TransactionUtil.afterCommit(() -> restaurantBoard.addScore(seq, name, score));
+	}
+
+	// 맛집 즐겨찾기 추가(커밋 후 반영), 운영 중이 아니면 순위에서 뺌
+	public void restaurantFavoriteAdded(Restaurant restaurant) {
+		Long seq = restaurant.getSeq();
+		String name = restaurant.getName();
+		if(!isActive(restaurant.getStatus())) {
+			restaurantRemoved(seq);
+			return;
+		}
+		TransactionUtil.afterCommit(() -> restaurantBoard.addFavorite(seq, name, 1));
+	}
+
+	// 맛집 수정(커밋 후 반영) : 운영 중이 아니게 바뀌면 순위에서 뺌(다시 운영하면 다음 재집계 때 올라옴)
+	public void restaurantEdited(Restaurant restaurant) {
+		if(!isActive(restaurant.getStatus())) {
+			restaurantRemoved(restaurant.getSeq());
+		}
+	}
+
+	// 맛집 삭제(커밋 후 반영)
+	public void restaurantRemoved(Long seq) {
+		TransactionUtil.afterCommit(() -> restaurantBoard.remove(seq));
+	}
+
+	public List<Leaderboard.Entry> getTopRatedHotels() {
+		return hotelBoard.topRated(size);
+	}
+
+	public List<Leaderboard.Entry> getTopRatedRestaurants() {
+		return restaurantBoard.topRated(size);
+	}
+
+	public List<Leaderboard.Entry> getMostFavoritedRestaurants() {
+		return restaurantBoard.mostFavorited(size);
+	}
+
+	private static boolean isActive(Long status) {
+		return status != null && status == 1L;
+	}
+
+	private static long nullToZero(Long value) {
+		return value == null ? 0L : value;
+	}
+}
@@ -0,0 +1,192 @@
+package kg.groupc.project.service.hotel;
+
+import java.io.Serializable;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+
+import kg.groupc.project.dto.account.BookingDto;
+import kg.groupc.project.entity.account.QAccount;
+import kg.groupc.project.entity.hotel.Booking;
+import kg.groupc.project.entity.hotel.BookingArchive;
+import kg.groupc.project.entity.hotel.QBooking;
+import kg.groupc.project.entity.hotel.QBookingArchive;
+import kg.groupc.project.entity.hotel.QHotel;
+import kg.groupc.project.entity.hotel.QRoom;
+import kg.groupc.project.repository.hotel.BookingArchiveRepository;
+import kg.groupc.project.service.BaseService;
+
+// 지난 예약 보관(BOOKING -> BOOKING_ARCHIVE)과 이용 내역 조회
+// 예약 테이블에는 진행 중/예정 예약과 최근 이용 내역만 남겨서 예약 가능 여부 조회가 오래된 내역까지 보지 않게 함
+@Service
+public class BookingArchiveService<T, ID extends Serializable> extends BaseService<Booking, Long> {
+
+	// 이용 종료 후 보관까지의 기간(일)
+	@Value("${booking.archive.horizon-days:365}")
+	private int horizonDays;
+	// 한 번에 옮기고 커밋할 건수
+	@Value("${booking.archive.chunk-size:500}")
+	private int chunkSize;
+
+	@Autowired
+	private BookingArchiveRepository<BookingArchive, Long> bookingArchiveRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// 종료일이 horizonDays 일보다 지난 예약을 chunkSize 건씩 옮김(묶음마다 커밋), 옮긴 건수 반환
+	// 매일 이용 완료 일괄 처리 뒤에 실행, 여러 서버에서 동시에 실행되어도 예약 삭제 건수로 확인해서 한 번만 옮김
+	@Scheduled(cron = "${booking.archive.cron:0 30 0 * * *}")
+	public int archive() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Date before = Date.valueOf(LocalDate.now().minusDays(horizonDays));
+		int total = 0;
+		int moved;
+		do {
+			moved = transactionTemplate.execute(status -> {
+				int count = archiveChunk(before);
+				if(count < 0) {
+					// 다른 서버가 같은 예약을 먼저 옮김 : 이 묶음은 롤백하고 종료
+					status.setRollbackOnly();
+					return 0;
+				}
+				return count;
+			});
+			total += moved;
+		}while(moved == chunkSize);
+		return total;
+	}
+
+	// 이용 내역(지난 예약) 페이지, 최근 이용부터
+	// 예약 테이블의 지난 예약이 보관된 예약보다 최근이므로 예약 테이블 -> 보관 테이블 순서로 이어서 페이징
+	@Transactional(readOnly = true)
+	public Page<BookingDto> getHistory(String userId, Pageable pageable) {
+		QBooking booking = QBooking.booking;
+		QRoom room = QRoom.room;
+		QHotel hotel = QHotel.hotel;
+		QAccount account = QAccount.account;
+		QBookingArchive archive = QBookingArchive.bookingArchive;
+		Date today = Date.valueOf(LocalDate.now());
+
+		Long liveCount = select()
+				.select(booking.count())
+				.from(booking)
+				.join(booking.reserver, account)
+				.where(account.userId.eq(userId), BookingStatusService.used(booking, today))
+				.fetchOne();
+		long archiveCount = bookingArchiveRepository.countByReserverId(userId);
+
+		List<BookingDto> bookingDtoList = new ArrayList<>();
+		if(pageable.getOffset() < liveCount) {
+			bookingDtoList.addAll(select()
+					.select(Projections.bean(BookingDto.class,
+							booking.seq,
+							hotel.seq.as("hotelSeq"),
+							hotel.name.as("hotel"),
+							room.name.as("room"),
+							account.userId.as("reserver"),
+							booking.reserveDate,
+							booking.reserveEndDate,
+							booking.status,
+							booking.price,
+							booking.people))
+					.from(booking)
+					.join(booking.reserver, account)
+					.join(booking.room, room)
+					.join(room.hotel, hotel)
+					.where(account.userId.eq(userId), BookingStatusService.used(booking, today))
+					.orderBy(booking.reserveDate.desc(), booking.seq.desc())
+					.offset(pageable.getOffset())
+					.limit(pageable.getPageSize())
+					.fetch());
+		}
+		if(bookingDtoList.size() < pageable.getPageSize() && archiveCount > 0) {
+			bookingDtoList.addAll(select()
+					.select(Projections.bean(BookingDto.class,
+							archive.bookingSeq.as("seq"),
+							archive.hotelSeq,
+							archive.hotelName.as("hotel"),
+							archive.roomName.as("room"),
+							archive.reserverId.as("reserver"),
+							archive.reserveDate,
+							archive.reserveEndDate,
+							archive.status,
+							archive.price,
+							archive.people))
+					.from(archive)
+					.where(archive.reserverId.eq(userId))
+					.orderBy(archive.reserveDate.desc(), archive.bookingSeq.desc())
+					.offset(Math.max(0, pageable.getOffset() - liveCount))
+					.limit(pageable.getPageSize() - bookingDtoList.size())
+					.fetch());
+		}
+		return new PageImpl<>(bookingDtoList, pageable, liveCount + archiveCount);
+	}
+
+	// 한 묶음 보관 : 호텔/방 이름과 함께 조회 -> 예약 테이블에서 삭제 -> 보관 테이블에 batch INSERT
+	// 옮긴 건수 반환, 다른 서버가 일부를 먼저 옮겼으면 -1(호출하는 쪽이 롤백)
+	private int archiveChunk(Date before) {
+		QBooking booking = QBooking.booking;
+		QRoom room = QRoom.room;
+		QHotel hotel = QHotel.hotel;
+		QAccount account = QAccount.account;
+		List<Tuple> tupleList = select()
+				.select(booking.seq, account.userId, hotel.seq, hotel.name, room.seq, room.name,
+						booking.reserveDate, booking.reserveEndDate, booking.status, booking.price, booking.people)
+				.from(booking)
+				.join(booking.reserver, account)
+				.join(booking.room, room)
+				.join(room.hotel, hotel)
+				.where(booking.reserveEndDate.lt(before))
+				.orderBy(booking.seq.asc())
+				.limit(chunkSize)
+				.fetch();
+		if(tupleList.isEmpty()) {
+			return 0;
+		}
+		Date archivedDate = Date.valueOf(LocalDate.now());
+		List<BookingArchive> archiveList = new ArrayList<>(tupleList.size());
+		List<Long> seqList = new ArrayList<>(tupleList.size());
+		for(Tuple tuple : tupleList) {
+			BookingArchive archive = new BookingArchive();
+			archive.setBookingSeq(tuple.get(booking.seq));
+			archive.setReserverId(tuple.get(account.userId));
+			archive.setHotelSeq(tuple.get(hotel.seq));
+			archive.setHotelName(tuple.get(hotel.name));
+			archive.setRoomSeq(tuple.get(room.seq));
+			archive.setRoomName(tuple.get(room.name));
+			archive.setReserveDate(tuple.get(booking.reserveDate));
+			archive.setReserveEndDate(tuple.get(booking.reserveEndDate));
+			archive.setStatus(tuple.get(booking.status));
+			archive.setPrice(tuple.get(booking.price));
+			archive.setPeople(tuple.get(booking.people));
+			archive.setArchivedDate(archivedDate);
+			archiveList.add(archive);
+			seqList.add(tuple.get(booking.seq));
+		}
+		// 먼저 삭제(행 잠금) : 동시에 실행 중인 쪽이 이미 옮긴 예약이 있으면 삭제 건수가 모자람
+		long deleted = delete(booking)
+				.where(booking.seq.in(seqList))
+				.execute();
+		if(deleted != seqList.size()) {
+			return -1;
+		}
+		bookingArchiveRepository.saveAll(archiveList);
+		bookingArchiveRepository.flush();
+		return tupleList.size();
+	}
+}
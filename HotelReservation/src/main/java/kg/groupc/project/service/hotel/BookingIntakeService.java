@@ -0,0 +1,214 @@
+package kg.groupc.project.service.hotel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import kg.groupc.project.dto.hotel.BookingFormDto;
+import kg.groupc.project.dto.hotel.BookingIntakeDto;
+import kg.groupc.project.dto.hotel.BookingIntakeDto.Status;
+import kg.groupc.project.entity.hotel.Booking;
+import kg.groupc.project.util.TimingWheel;
+import lombok.extern.slf4j.Slf4j;
+
+// 예약 비동기 접수(대기열)
+// 요청은 접수 번호만 받고 바로 돌아가고, 작업 스레드가 대기열에서 꺼내 여러 건을 한 번에 커밋
+// 방 seq 로 작업 스레드를 고정하므로 같은 방의 예약은 접수 순서대로 처리됨
+// 대기열이 가득 차면 접수하지 않음(null) -> 요청 스레드가 DB 잠금을 기다리며 쌓이지 않음
+@Slf4j
+@Service
+public class BookingIntakeService {
+	
+	// 접수 결과 보관 시간(30분)
+	private static final long TICKET_MILLIS = 30 * 60 * 1000L;
+	
+	@Value("${booking.intake.enabled:false}")
+	private boolean enabled;
+	@Value("${booking.intake.workers:4}")
+	private int workerCount;
+	@Value("${booking.intake.queue-capacity:1000}")
+	private int queueCapacity;
+	@Value("${booking.intake.batch-size:20}")
+	private int batchSize;
+	
+	@Autowired
+	private BookingService<Booking, Long> bookingService;
+	
+	private final Map<String, BookingIntakeDto> ticketMap = new ConcurrentHashMap<>();
+	private TimingWheel<String> ticketWheel;
+	private final List<ArrayBlockingQueue<BookingIntakeDto>> queueList = new ArrayList<>();
+	private ExecutorService workers;
+	
+	// 지표
+	private final AtomicLong accepted = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong confirmed = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong batches = new AtomicLong();
+	private final AtomicLong retried = new AtomicLong();
+	
+	@PostConstruct
+	public void start() {
+		if(!enabled) {
+			return;
+		}
+		ticketWheel = new TimingWheel<>(1000L, System.currentTimeMillis());
+		workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+			Thread thread = new Thread(runnable, "booking-intake");
+			thread.setDaemon(true);
+			return thread;
+		});
+		for(int i = 0; i < workerCount; i++) {
+			ArrayBlockingQueue<BookingIntakeDto> queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity / workerCount));
+			queueList.add(queue);
+			workers.submit(() -> work(queue));
+		}
+	}
+	
+	@PreDestroy
+	public void stop() {
+		if(workers != null) {
+			workers.shutdownNow();
+		}
+	}
+	
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	// 예약 접수, 접수 번호 반환(비동기 모드가 꺼져 있거나 대기열이 가득 차면 null)
+	public String submit(BookingFormDto bookingFormDto, String userId) {
+		if(!enabled || bookingFormDto.getSeq() == null) {
+			return null;
+		}
+		BookingIntakeDto intake = new BookingIntakeDto();
+		intake.setTicketId(UUID.randomUUID().toString());
+		intake.setUserId(userId);
+		intake.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+		intake.setBookingFormDto(bookingFormDto);
+		
+		ticketMap.put(intake.getTicketId(), intake);
+		if(!queueList.get(Math.floorMod(bookingFormDto.getSeq().hashCode(), workerCount)).offer(intake)) {
+			ticketMap.remove(intake.getTicketId());
+			dropped.incrementAndGet();
+			return null;
+		}
+		accepted.incrementAndGet();
+		synchronized(ticketWheel) {
+			long now = System.currentTimeMillis();
+			ticketWheel.advance(now, ticketMap::remove);
+			ticketWheel.add(intake.getTicketId(), now + TICKET_MILLIS);
+		}
+		return intake.getTicketId();
+	}
+	
+	// 접수 상태 조회(본인 접수만), 없거나 보관 시간이 지났으면 null
+	public BookingIntakeDto getTicket(String ticketId, String userId) {
+		BookingIntakeDto intake = ticketMap.get(ticketId);
+		if(intake == null || !intake.getUserId().equals(userId)) {
+			return null;
+		}
+		return intake;
+	}
+	
+	// 대기열 크기, 작업 스레드 수, 묶음 크기, 처리 건수
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<>();
+		int depth = 0;
+		for(ArrayBlockingQueue<BookingIntakeDto> queue : queueList) {
+			depth += queue.size();
+		}
+		long batchCount = batches.get();
+		metrics.put("enabled", enabled);
+		metrics.put("workers", workerCount);
+		metrics.put("queueCapacity", queueCapacity);
+		metrics.put("queueDepth", depth);
+		metrics.put("batchSize", batchSize);
+		metrics.put("accepted", accepted.get());
+		metrics.put("dropped", dropped.get());
+		metrics.put("confirmed", confirmed.get());
+		metrics.put("rejected", rejected.get());
+		metrics.put("batches", batchCount);
+		metrics.put("avgBatchSize", batchCount == 0 ? 0.0 : (double) (confirmed.get() + rejected.get()) / batchCount);
+		metrics.put("retried", retried.get());
+		return metrics;
+	}
+	
+	// 대기열에서 최대 batchSize 건씩 꺼내 한 트랜잭션으로 저장
+	private void work(ArrayBlockingQueue<BookingIntakeDto> queue) {
+		while(!Thread.currentThread().isInterrupted()) {
+			List<BookingIntakeDto> batch = new ArrayList<>(batchSize);
+			try {
+				batch.add(queue.take());
+			}catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			queue.drainTo(batch, batchSize - 1);
+			try {
+				apply(batch);
+			}catch (Throwable e) {
+				// 작업 스레드가 죽으면 이 대기열의 접수가 멈추므로 기록만 하고 계속 처리
+				// 결과가 정해지지 않은 접수는 거절로 끝냄(대기 화면이 계속 기다리지 않도록)
+				log.error("booking intake batch failed : {} items", batch.size(), e);
+				for(BookingIntakeDto intake : batch) {
+					if(intake.getStatus() == Status.WAITING) {
+						complete(intake, null);
+					}
+				}
+			}
+		}
+	}
+	
+	// 접수 결과는 saveBookingBatch 가 정상 반환된 뒤(커밋 완료)에만 정함
+	// 커밋되지 않았으면 예외가 나므로 저장되지 않은 예약 번호로 확정하지 않음
+	private void apply(List<BookingIntakeDto> batch) {
+		batches.incrementAndGet();
+		List<Booking> bookingList;
+		try {
+			bookingList = bookingService.saveBookingBatch(batch);
+		}catch (RuntimeException e) {
+			// 한 건의 오류(재고 소진 등)로 묶음 전체가 롤백되면 한 건씩 다시 처리
+			retried.incrementAndGet();
+			for(BookingIntakeDto intake : batch) {
+				Booking booking;
+				try {
+					booking = bookingService.saveBookingBatch(List.of(intake)).get(0);
+				}catch (RuntimeException ex) {
+					booking = null;
+				}
+				complete(intake, booking);
+			}
+			return;
+		}
+		for(int i = 0; i < batch.size(); i++) {
+			complete(batch.get(i), bookingList.get(i));
+		}
+	}
+	
+	private void complete(BookingIntakeDto intake, Booking booking) {
+		if(booking == null) {
+			intake.setStatus(Status.REJECTED);
+			rejected.incrementAndGet();
+		}else {
+			intake.setBookingSeq(booking.getSeq());
+			intake.setStatus(Status.CONFIRMED);
+			confirmed.incrementAndGet();
+		}
+	}
+}
@@ -3,20 +3,39 @@ package kg.groupc.project.service.hotel;
 import java.io.Serializable;
 import java.sql.Date;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import kg.groupc.project.dto.hotel.BookingFormDto;
+import kg.groupc.project.dto.hotel.BookingIntakeDto;
 import kg.groupc.project.entity.account.Account;
 import kg.groupc.project.entity.hotel.Booking;
 import kg.groupc.project.entity.hotel.Room;
-import kg.groupc.project.repository.account.AccountRepository;
 import kg.groupc.project.repository.hotel.BookingRepository;
 import kg.groupc.project.repository.hotel.RoomRepository;
 import kg.groupc.project.service.BaseService;
+import kg.groupc.project.util.AccountCache;
+import kg.groupc.project.util.BookingHoldStore;
+import kg.groupc.project.util.RoomOccupancyCalendar;
+import kg.groupc.project.util.RoomRateCalendar;
+import kg.groupc.project.util.StripedLock;
+import kg.groupc.project.util.TransactionUtil;
 
 @Service
 public class BookingService<T, ID extends Serializable> extends BaseService<Booking, Long> {
@@ -25,36 +44,214 @@ public class BookingService<T, ID extends Serializable> extends BaseService<Book
 	@Autowired
 	private RoomRepository<Room, Long> roomRepository;
 	@Autowired
-	private AccountRepository<Account, Long> accountRepository;
+	private AccountCache accountCache;
+	@Autowired
+	private RoomAvailabilityService<Booking, Long> roomAvailabilityService;
+	@Autowired
+	private BookingHoldStore bookingHoldStore;
+	@Autowired
+	private RoomInventoryService<Room, Long> roomInventoryService;
+	@Autowired
+	private RoomOccupancyCalendar roomOccupancyCalendar;
+	@Autowired
+	private RoomRateCalendar roomRateCalendar;
+	
+	// 단체 예약 한 번에 예약할 수 있는 최대 방 수
+	public static final int MAX_GROUP_SIZE = 50;
 	
+	// 방별 잠금(서버 안에서 같은 방 예약끼리만 대기, 다른 방은 동시에 처리)
+	private final StripedLock roomLocks = new StripedLock(64);
+	
+	// 예약 저장, 이미 예약된 기간이거나 다른 사용자가 잡아둔(hold) 기간이거나 없는 방이면 null
+	// 같은 방에 대한 확인 -> 저장은 방 잠금(서버) + 방 행 FOR UPDATE(DB, 여러 서버 대비)로 한 건씩 처리
+	// 저장되면 커밋 후 사용자의 hold 해제, 가격은 화면에서 보낸 값 대신 요금 달력으로 다시 계산
+	@Transactional
 	public Booking saveBooking(BookingFormDto bookingFormDto, String userId) {
-		Room room = roomRepository.findById(bookingFormDto.getSeq()).get();
-		Account account = accountRepository.findByUserId(userId);
+		try {
+			return book(bookingFormDto, userId);
+		}catch(SoldOutException e) {
+			// 일부 밤의 재고가 이미 차감되었으므로 롤백
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+			return null;
+		}
+	}
+	
+	// 예약 한 건 저장(saveBooking, saveBookingBatch 공용)
+	// 예약할 수 없으면 null(아직 바꾼 것이 없음), 재고 차감이 중간에 실패하면 SoldOutException(트랜잭션 롤백 필요)
+	private Booking book(BookingFormDto bookingFormDto, String userId) {
+		lockRoomsUntilCompletion(Arrays.asList(bookingFormDto.getSeq()));
+		Room room = roomRepository.findByIdForUpdate(bookingFormDto.getSeq()).orElse(null);
+		if(room == null || !roomAvailabilityService.isAvailable(room, bookingFormDto.getCheckin(), bookingFormDto.getCheckout())
+				|| room.getStock() <= 1 && bookingHoldStore.isHeldByOthers(bookingFormDto.getSeq(), bookingFormDto.getCheckin(), bookingFormDto.getCheckout(), userId)) {
+			return null;
+		}
+		// 같은 방이 여러 개면 날짜별 재고 차감(조건부 UPDATE)
+		if(room.getStock() > 1 && !roomInventoryService.reserve(room, bookingFormDto.getCheckin(), bookingFormDto.getCheckout())) {
+			throw new SoldOutException(bookingFormDto.getSeq());
+		}
+		releaseHoldsAfterCommit(Arrays.asList(bookingFormDto.getSeq()), userId);
+		Account account = accountCache.getReference(userId);
 		Booking booking = new Booking();
 		booking.setRoom(room);
 		booking.setReserver(account);
 		booking.setReserveDate(bookingFormDto.getCheckin());
 		booking.setReserveEndDate(bookingFormDto.getCheckout());
-		booking.setStatus(1L);
-		booking.setPrice(bookingFormDto.getPrice());
+		booking.setStatus(Booking.STATUS_RESERVED);
+		booking.setPrice(roomRateCalendar.quote(bookingFormDto.getSeq(), bookingFormDto.getCheckin(), bookingFormDto.getCheckout()));
 		booking.setPeople(bookingFormDto.getPeople());
 		return bookingRepository.save(booking);
 	}
-	// 예약 날짜에 대하여 예약 가능 여부 확인
+	
+	// 단체 예약 저장(전부 저장되거나 하나도 저장되지 않음), 예약할 수 없는 방/기간이 하나라도 있으면 null
+	// 방 조회, 예약자 조회, 가능 여부 확인을 각각 쿼리 1번으로 하고 INSERT 는 JDBC batch 로 묶어서 보냄
+	@Transactional
+	public List<Booking> saveGroupBooking(List<BookingFormDto> bookingFormDtoList, String userId) {
+		if(bookingFormDtoList == null || bookingFormDtoList.isEmpty() || bookingFormDtoList.size() > MAX_GROUP_SIZE) {
+			return null;
+		}
+		Set<Long> roomSeqSet = new HashSet<>();
+		for(BookingFormDto bookingFormDto : bookingFormDtoList) {
+			if(bookingFormDto.getSeq() == null) {
+				return null;
+			}
+			roomSeqSet.add(bookingFormDto.getSeq());
+		}
+		lockRoomsUntilCompletion(roomSeqSet);
+		Map<Long, Room> roomMap = new HashMap<>();
+		for(Room room : roomRepository.findAllByIdForUpdate(roomSeqSet)) {
+			roomMap.put(room.getSeq(), room);
+		}
+		if(roomMap.size() != roomSeqSet.size()) {
+			return null;
+		}
+		// 방이 1개인 타입은 기간 겹침을 한 번에 확인하고, 여러 개인 타입은 날짜별 재고 차감
+		List<BookingFormDto> singleList = new ArrayList<>();
+		for(BookingFormDto bookingFormDto : bookingFormDtoList) {
+			Room room = roomMap.get(bookingFormDto.getSeq());
+			if(room.getStock() > 1) {
+				if(!roomInventoryService.reserve(room, bookingFormDto.getCheckin(), bookingFormDto.getCheckout())) {
+					TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+					return null;
+				}
+			}else if(bookingHoldStore.isHeldByOthers(bookingFormDto.getSeq(), bookingFormDto.getCheckin(), bookingFormDto.getCheckout(), userId)) {
+				TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+				return null;
+			}else {
+				singleList.add(bookingFormDto);
+			}
+		}
+		if(!singleList.isEmpty() && !roomAvailabilityService.isAvailableAll(singleList)) {
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+			return null;
+		}
+		releaseHoldsAfterCommit(roomSeqSet, userId);
+		Account account = accountCache.getReference(userId);
+		List<Booking> bookingList = new ArrayList<>(bookingFormDtoList.size());
+		for(BookingFormDto bookingFormDto : bookingFormDtoList) {
+			Booking booking = new Booking();
+			booking.setRoom(roomMap.get(bookingFormDto.getSeq()));
+			booking.setReserver(account);
+			booking.setReserveDate(bookingFormDto.getCheckin());
+			booking.setReserveEndDate(bookingFormDto.getCheckout());
+			booking.setStatus(Booking.STATUS_RESERVED);
+			booking.setPrice(roomRateCalendar.quote(bookingFormDto.getSeq(), bookingFormDto.getCheckin(), bookingFormDto.getCheckout()));
+			booking.setPeople(bookingFormDto.getPeople());
+			bookingList.add(booking);
+		}
+		return bookingRepository.saveAll(bookingList);
+	}
+	// 비동기 접수용 : 여러 건을 한 트랜잭션(커밋 1번)으로 저장, 결과는 접수 순서대로(예약할 수 없으면 null)
+	// 묶음의 방을 먼저 번호 순서대로 한 번에 잠가서 다른 작업 스레드/단체 예약과 교착되지 않게 함
+	// 한 건이라도 재고 차감이 중간에 실패하면 예외로 묶음 전체를 롤백(호출하는 쪽이 한 건씩 다시 처리)
+	// 정상 반환되면 커밋된 것(롤백만 표시된 채로 조용히 끝나지 않음)
+	@Transactional
+	public List<Booking> saveBookingBatch(List<BookingIntakeDto> intakeList) {
+		Set<Long> roomSeqSet = new HashSet<>();
+		for(BookingIntakeDto intake : intakeList) {
+			if(intake.getBookingFormDto().getSeq() != null) {
+				roomSeqSet.add(intake.getBookingFormDto().getSeq());
+			}
+		}
+		if(!roomSeqSet.isEmpty()) {
+			lockRoomsUntilCompletion(roomSeqSet);
+			roomRepository.findAllByIdForUpdate(roomSeqSet);
+		}
+		List<Booking> bookingList = new ArrayList<>(intakeList.size());
+		try {
+			for(BookingIntakeDto intake : intakeList) {
+				// 작업 스레드에는 로그인 정보가 없으므로 요청자 인증 정보로 저장(BaseEntity.username)
+				SecurityContextHolder.getContext().setAuthentication(intake.getAuthentication());
+				bookingList.add(book(intake.getBookingFormDto(), intake.getUserId()));
+			}
+		}finally {
+			SecurityContextHolder.clearContext();
+		}
+		if(TransactionAspectSupport.currentTransactionStatus().isRollbackOnly()) {
+			throw new IllegalStateException("booking batch marked rollback-only");
+		}
+		return bookingList;
+	}
+	// 숙박 요금 견적(요금 달력 기준, 예약 저장 시에도 같은 금액으로 저장), 잘못된 방/기간이면 null
+	public Long getQuote(Long seq, LocalDate checkin, LocalDate checkout) {
+		return roomRateCalendar.quote(seq, Date.valueOf(checkin), Date.valueOf(checkout));
+	}
+	// 예약 날짜에 대하여 예약 가능 여부 확인, 가능하면 사용자에게 hold(HOLD_MILLIS 동안 다른 사용자 예약 불가)
 	public boolean reserveDateValidCheck(Long seq, String checkin, String checkout, String userId) {
-		Room room = roomRepository.findById(seq).get();
-		
 		int[] checkinYMD = Arrays.stream(checkin.split("-")).mapToInt(Integer::parseInt).toArray();
 		int[] checkoutYMD = Arrays.stream(checkout.split("-")).mapToInt(Integer::parseInt).toArray();
 		
 		Date checkinDate = Date.valueOf(LocalDate.of(checkinYMD[0], checkinYMD[1], checkinYMD[2]));
 		Date checkoutDate = Date.valueOf(LocalDate.of(checkoutYMD[0], checkoutYMD[1], checkoutYMD[2]));
 
-		List<Booking> booking = bookingRepository.findByRoomAndReserveDateGreaterThanEqualAndReserveEndDateLessThanEqual(room, checkinDate, checkoutDate);
-
-		if(booking.size() == 0) {
-			return true;
+		if(!checkinDate.before(checkoutDate)) {
+			return false;
+		}
+		// 같은 방이 여러 개인 타입은 재고로 확인(한 사람이 전체를 잡아두지 않도록 hold 없음)
+		if(roomOccupancyCalendar.isInventoryRoom(seq)) {
+			return roomAvailabilityService.isAvailableCached(seq, checkinDate, checkoutDate);
+		}
+		if(bookingHoldStore.isHeldByOthers(seq, checkinDate, checkoutDate, userId)) {
+			return false;
+		}
+		return roomAvailabilityService.isAvailableCached(seq, checkinDate, checkoutDate)
+				&& bookingHoldStore.hold(seq, checkinDate, checkoutDate, userId);
+	}
+	// 해당 월(yyyy-mm)의 빈 날짜 목록(달력 표시용)
+	public List<LocalDate> getFreeNights(Long seq, YearMonth month) {
+		return roomAvailabilityService.getFreeNights(seq, month);
+	}
+	
+	// 예약이 커밋되면 사용자의 hold 해제(롤백되면 hold 유지)
+	private void releaseHoldsAfterCommit(Collection<Long> roomSeqList, String userId) {
+		TransactionUtil.afterCommit(() -> roomSeqList.forEach(roomSeq -> bookingHoldStore.release(roomSeq, userId)));
+	}
+	
+	// 트랜잭션이 끝날 때(커밋/롤백)까지 방 잠금 유지, 트랜잭션 밖이면 DB 잠금만 사용
+	// 여러 방은 잠금 번호 순서대로 잡음(단체 예약끼리 교착 방지)
+	private void lockRoomsUntilCompletion(Collection<Long> roomSeqList) {
+		if(roomSeqList.contains(null) || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		List<Lock> lockList = roomLocks.getAll(roomSeqList);
+		for(Lock lock : lockList) {
+			lock.lock();
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				for(Lock lock : lockList) {
+					lock.unlock();
+				}
+			}
+		});
+	}
+	
+	// 재고 차감 실패(일부 밤은 이미 차감됨)
+	private static class SoldOutException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+		
+		SoldOutException(Long roomSeq) {
+			super("room inventory sold out : " + roomSeq);
 		}
-		return false;
 	}
 }
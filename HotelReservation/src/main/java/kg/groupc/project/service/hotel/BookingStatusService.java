@@ -0,0 +1,79 @@
+package kg.groupc.project.service.hotel;
+
+import java.io.Serializable;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+
+import kg.groupc.project.entity.hotel.Booking;
+import kg.groupc.project.entity.hotel.QBooking;
+import kg.groupc.project.service.BaseService;
+
+// 예약 상태 일괄 변경 : 예약일이 지난 예약을 이용 완료로 바꿈
+// 마이페이지/이용 내역은 날짜 비교 대신 상태 인덱스로 예약 현황과 이용 내역을 나눠서 조회
+@Service
+public class BookingStatusService<T, ID extends Serializable> extends BaseService<Booking, Long> {
+
+	// 한 번에 변경하고 커밋할 건수
+	@Value("${booking.status.chunk-size:1000}")
+	private int chunkSize;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// 예약 현황(이용 전) 조건
+	public static BooleanExpression reserved(QBooking booking, Date today) {
+		return booking.status.eq(Booking.STATUS_RESERVED).and(booking.reserveDate.goe(today));
+	}
+
+	// 이용 내역 조건(아직 일괄 변경되지 않은 지난 예약 포함)
+	public static BooleanExpression used(QBooking booking, Date today) {
+		return booking.status.eq(Booking.STATUS_COMPLETED)
+				.or(booking.status.eq(Booking.STATUS_RESERVED).and(booking.reserveDate.lt(today)));
+	}
+
+	// 예약일이 지난 예약을 chunkSize 건씩 이용 완료로 변경(묶음마다 커밋), 변경한 건수 반환
+	// 매일 자정 직후 실행, 여러 서버에서 동시에 실행되어도 status 조건으로 한 번만 바뀜(건수도 실제로 바꾼 건만 셈)
+	// 한 건도 바꾸지 못하면 종료(남은 예약은 동시에 실행 중인 쪽이 처리)
+	@Scheduled(cron = "${booking.status.cron:0 5 0 * * *}")
+	public int completePastBookings() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Date today = Date.valueOf(LocalDate.now());
+		int total = 0;
+		int changed;
+		do {
+			changed = transactionTemplate.execute(status -> completeChunk(today));
+			total += changed;
+		}while(changed > 0);
+		return total;
+	}
+
+	// 한 묶음 변경 : (status, reserveDate) 인덱스로 대상 seq 조회 -> UPDATE 1번, 실제로 바뀐 건수 반환
+	private int completeChunk(Date today) {
+		QBooking booking = QBooking.booking;
+		List<Long> seqList = select()
+				.select(booking.seq)
+				.from(booking)
+				.where(booking.status.eq(Booking.STATUS_RESERVED), booking.reserveDate.lt(today))
+				.orderBy(booking.seq.asc())
+				.limit(chunkSize)
+				.fetch();
+		if(seqList.isEmpty()) {
+			return 0;
+		}
+		long updated = update(booking)
+				.set(booking.status, Booking.STATUS_COMPLETED)
+				.where(booking.seq.in(seqList), booking.status.eq(Booking.STATUS_RESERVED))
+				.execute();
+		return (int) updated;
+	}
+}
@@ -4,16 +4,25 @@ import java.io.Serializable;
 import java.sql.Date;
 import java.time.LocalDate;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import kg.groupc.project.dto.review.ReviewFormDto;
-import kg.groupc.project.entity.account.Account;
 import kg.groupc.project.entity.hotel.Hotel;
 import kg.groupc.project.entity.hotel.HotelScore;
-import kg.groupc.project.repository.account.AccountRepository;
+import kg.groupc.project.entity.hotel.QHotel;
+import kg.groupc.project.entity.hotel.QHotelScore;
 import kg.groupc.project.repository.hotel.HotelRepository;
 import kg.groupc.project.repository.hotel.HotelScoreRepository;
 import kg.groupc.project.service.BaseService;
+import kg.groupc.project.service.home.LeaderboardService;
+import kg.groupc.project.util.AccountCache;
+import kg.groupc.project.util.ScoreSummaryUtil;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -21,19 +30,52 @@ import lombok.RequiredArgsConstructor;
 public class HotelScoreService<T, ID extends Serializable> extends BaseService<HotelScore, Long> {
 	private final HotelScoreRepository<HotelScore, Long> hotelScoreRepository;
 	private final HotelRepository<Hotel, Long> hotelRepository;
-	private final AccountRepository<Account, Long> accountRepository;
+	private final AccountCache accountCache;
+	private final LeaderboardService<Hotel, Long> leaderboardService;
 	
+	@Value("${score.summary.rebuild-on-startup:true}")
+	private boolean rebuildOnStartup;
+	
+	// 리뷰 저장 + 호텔 평점 집계 누적(같은 트랜잭션)
+	@Transactional
 	public HotelScore saveHotelScore(ReviewFormDto reviewFormDto, Long seq, String userId) {
+		ScoreSummaryUtil.checkScore(reviewFormDto.getScore());
 		Hotel hotel = hotelRepository.findById(seq).get();
 		HotelScore hotelScore = new HotelScore();
 		hotelScore.setHotel(hotel);
-		hotelScore.setWriter(accountRepository.findByUserId(userId));
+		hotelScore.setWriter(accountCache.getReference(userId));
 		hotelScore.setScore(reviewFormDto.getScore());
 		hotelScore.setDescription(reviewFormDto.getReviewDesc());
 		hotelScore.setDay(Date.valueOf(LocalDate.now()));
 		
-		return hotelScoreRepository.save(hotelScore);
+		HotelScore saved = hotelScoreRepository.save(hotelScore);
+		QHotel qHotel = QHotel.hotel;
+		ScoreSummaryUtil.addScore(update(qHotel), qHotel.scoreSummary, reviewFormDto.getScore())
+				.where(qHotel.seq.eq(seq))
+				.execute();
+		leaderboardService.hotelScoreAdded(hotel, reviewFormDto.getScore());
+		return saved;
 	}
 	
+	// 시작 시 평점 집계 재계산(집계 컬럼이 생기기 전의 리뷰 반영)
+	// 홈 화면 순위(LeaderboardService.reconcile)가 집계 컬럼을 읽기 전에 실행
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@Transactional
+	public void rebuildOnStartup() {
+		if(rebuildOnStartup) {
+			rebuildScoreSummary();
+		}
+	}
 	
+	// 호텔 평점 집계 재계산(관리자 복구용), 재계산한 호텔 수 반환
+	@Transactional
+	public int rebuildScoreSummary() {
+		QHotel qHotel = QHotel.hotel;
+		QHotelScore qHotelScore = QHotelScore.hotelScore;
+		long count = ScoreSummaryUtil.recompute(update(qHotel), qHotel.scoreSummary,
+				qHotelScore, qHotelScore.score, qHotelScore.hotel.eq(qHotel))
+				.execute();
+		return (int) count;
+	}
 }
@@ -3,6 +3,8 @@ package kg.groupc.project.service.hotel;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import javax.transaction.Transactional;
@@ -11,13 +13,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
+
+import kg.groupc.project.dto.hotel.HotelCursorFormDto;
 import kg.groupc.project.dto.hotel.HotelMainFormDto;
+import kg.groupc.project.entity.QScoreSummary;
 import kg.groupc.project.entity.hotel.Hotel;
-import kg.groupc.project.entity.hotel.HotelScore;
+import kg.groupc.project.entity.hotel.QHotel;
 import kg.groupc.project.entity.hotel.Room;
 import kg.groupc.project.repository.hotel.HotelRepository;
 import kg.groupc.project.repository.hotel.RoomRepository;
 import kg.groupc.project.service.BaseService;
+import kg.groupc.project.util.HotelPageUtil;
+import kg.groupc.project.util.HotelSearchIndex;
+import kg.groupc.project.util.HotelSearchIndex.Field;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -29,6 +44,7 @@ import lombok.Setter;
 public class HotelService<T, ID extends Serializable> extends BaseService<Hotel, Long> {
 	
 	private final HotelRepository<Hotel, Long> hotelRepository;
+	private final HotelSearchIndex hotelSearchIndex;
 	
 	public Hotel getHotelBySeq(Long seq) {
 		return hotelRepository.findById(seq).get();
@@ -45,84 +61,176 @@ public class HotelService<T, ID extends Serializable> extends BaseService<Hotel,
 	@Transactional
 	public List<HotelMainFormDto> getHotelList(String keyword, int num, Pageable pageable){
 		//num = 0(검색어 조건x), 1(호텔명), 2(지역명)
-		if(num == 0 && (keyword == null || keyword == "")) {
-			Page<Hotel> hotell = hotelRepository.findByStatus(1L, pageable);//status 1인것만
-			List<Hotel> hotelList = hotell.getContent();
-			long count = hotell.getTotalElements();
-			List<HotelMainFormDto> hotelMainFormDtoList = new ArrayList<HotelMainFormDto>();
-			for(Hotel hotel : hotelList) {
-				Double sum = 0.0;
-				List<HotelScore> hotelScores = hotel.getHotelScores();
-				for(HotelScore hotelScore : hotelScores) {
-					sum += hotelScore.getScore();
+		QHotel hotel = QHotel.hotel;
+		String word = keyword == null ? "" : keyword;
+		if(num < 0 || num > 2) {//에러
+			return new ArrayList<HotelMainFormDto>();
+		}
+		
+		List<HotelMainFormDto> hotelMainFormDtoList;
+		Long count;
+		if(useIndex(num)) {
+			// 검색어가 있으면 메모리 색인에서 순위순 seq 목록을 받아옴(LIKE 전체 스캔 회피)
+			Page<Long> seqPage = hotelSearchIndex.search(indexField(num), word, pageable);
+			hotelMainFormDtoList = getHotelListBySeq(seqPage.getContent());
+			count = seqPage.getTotalElements();
+		}else {
+			BooleanExpression where = searchCondition(num, word);
+			hotelMainFormDtoList = listQuery()
+					.where(where)
+					.orderBy(sortKey(num).asc(), hotel.seq.asc())
+					.offset(pageable.getOffset())
+					.limit(pageable.getPageSize())
+					.fetch();
+			count = select()
+					.select(hotel.count())
+					.from(hotel)
+					.where(where)
+					.fetchOne();
+		}
+		for(HotelMainFormDto hotelMainFormDto : hotelMainFormDtoList) {
+			hotelMainFormDto.setDataCount(count == null ? 0 : count);
+		}
+		return hotelMainFormDtoList;
+	}
+	
+	// 커서(keyset) 방식 목록 : OFFSET, COUNT(*) 없이 마지막으로 본 행 다음부터 size개
+	// cursor = null이면 첫 페이지, backward = true면 cursor 이전 size개
+	// 정렬 기준 : num 0 -> seq, 1 -> (name, seq), 2 -> (address, seq), 색인 사용 시 색인 순위
+	@Transactional
+	public HotelCursorFormDto getHotelList(String keyword, int num, String cursor, boolean backward, int size){
+		QHotel hotel = QHotel.hotel;
+		String word = keyword == null ? "" : keyword;
+		HotelCursorFormDto hotelCursorFormDto = new HotelCursorFormDto();
+		if(num < 0 || num > 2) {//에러
+			return hotelCursorFormDto;
+		}
+		String[] key = HotelPageUtil.decodeCursor(cursor);//{정렬값, seq}
+		
+		List<HotelMainFormDto> hotelMainFormDtoList;
+		if(useIndex(num)) {
+			Long cursorSeq = key == null ? null : Long.valueOf(key[1]);
+			List<Long> seqList = hotelSearchIndex.searchCursor(indexField(num), word, key == null ? null : key[0], cursorSeq, backward, size + 1);
+			hotelMainFormDtoList = getHotelListBySeq(seqList);
+		}else {
+			ComparableExpressionBase<?> sortKey = sortKey(num);
+			BooleanExpression where = searchCondition(num, word);
+			if(key != null) {
+				Long seq = Long.valueOf(key[1]);
+				if(num == 0) {
+					where = where.and(backward ? hotel.seq.lt(seq) : hotel.seq.gt(seq));
+				}else {
+					StringPath path = (StringPath) sortKey;
+					where = where.and(backward
+							? path.lt(key[0]).or(path.eq(key[0]).and(hotel.seq.lt(seq)))
+							: path.gt(key[0]).or(path.eq(key[0]).and(hotel.seq.gt(seq))));
 				}
-				Double avg = sum/hotelList.size();
-				HotelMainFormDto hotelMainFormDto = new HotelMainFormDto();
-				hotelMainFormDto.setSeq(hotel.getSeq());
-				hotelMainFormDto.setName(hotel.getName());
-				hotelMainFormDto.setPhone(hotel.getPhone());
-				hotelMainFormDto.setAddress(hotel.getAddress());
-				hotelMainFormDto.setDescription(hotel.getDescription());
-				hotelMainFormDto.setImg(hotel.getImg());
-				hotelMainFormDto.setAvg(avg);
-				hotelMainFormDtoList.add(hotelMainFormDto);
-				hotelMainFormDto.setDataCount(count);
 			}
-			
-			return hotelMainFormDtoList;
-			
-		}else if(num == 1) {//호텔명
-			Page<Hotel> hotell = hotelRepository.findByNameContainingAndStatusOrderByName(keyword, 1L, pageable);
-			List<Hotel> hotelList = hotell.getContent();
-			long count = hotell.getTotalElements();
-			List<HotelMainFormDto> hotelMainFormDtoList = new ArrayList<HotelMainFormDto>();
-			for(Hotel hotel : hotelList) {
-				Double sum = 0.0;
-				List<HotelScore> hotelScores = hotel.getHotelScores();
-				for(HotelScore hotelScore : hotelScores) {
-					sum += hotelScore.getScore();
-				}
-				Double avg = sum/hotelList.size();
-				HotelMainFormDto hotelMainFormDto = new HotelMainFormDto();
-				hotelMainFormDto.setSeq(hotel.getSeq());
-				hotelMainFormDto.setName(hotel.getName());
-				hotelMainFormDto.setPhone(hotel.getPhone());
-				hotelMainFormDto.setAddress(hotel.getAddress());
-				hotelMainFormDto.setDescription(hotel.getDescription());
-				hotelMainFormDto.setImg(hotel.getImg());
-				hotelMainFormDto.setAvg(avg);
-				hotelMainFormDtoList.add(hotelMainFormDto);
+			hotelMainFormDtoList = listQuery()
+					.where(where)
+					.orderBy(backward ? sortKey.desc() : sortKey.asc(), backward ? hotel.seq.desc() : hotel.seq.asc())
+					.limit(size + 1)
+					.fetch();
+			if(backward) {
+				Collections.reverse(hotelMainFormDtoList);
 			}
-			return hotelMainFormDtoList;
-			
-		}else if(num == 2) {//지역명
-			Page<Hotel> hotell = hotelRepository.findByNameContainingAndStatusOrderByName(keyword, 1L, pageable);
-			List<Hotel> hotelList = hotell.getContent();
-			long count = hotell.getTotalElements();
-			List<HotelMainFormDto> hotelMainFormDtoList = new ArrayList<HotelMainFormDto>();
-			for(Hotel hotel : hotelList) {
-				Double sum = 0.0;
-				List<HotelScore> hotelScores = hotel.getHotelScores();
-				for(HotelScore hotelScore : hotelScores) {
-					sum += hotelScore.getScore();
-				}
-				Double avg = sum/hotelList.size();
-				HotelMainFormDto hotelMainFormDto = new HotelMainFormDto();
-				hotelMainFormDto.setSeq(hotel.getSeq());
-				hotelMainFormDto.setName(hotel.getName());
-				hotelMainFormDto.setPhone(hotel.getPhone());
-				hotelMainFormDto.setAddress(hotel.getAddress());
-				hotelMainFormDto.setDescription(hotel.getDescription());
-				hotelMainFormDto.setImg(hotel.getImg());
-				hotelMainFormDto.setAvg(avg);
-				hotelMainFormDtoList.add(hotelMainFormDto);
+		}
+		
+		// size + 1개를 조회해서 더 있는지 확인
+		boolean more = hotelMainFormDtoList.size() > size;
+		if(more) {
+			if(backward) {
+				hotelMainFormDtoList = new ArrayList<>(hotelMainFormDtoList.subList(1, size + 1));
+			}else {
+				hotelMainFormDtoList = new ArrayList<>(hotelMainFormDtoList.subList(0, size));
 			}
-			return hotelMainFormDtoList;
-			
-		}else {//에러
-			return null;
 		}
+		hotelCursorFormDto.setHotelMainFormDtoList(hotelMainFormDtoList);
+		if(!hotelMainFormDtoList.isEmpty()) {
+			HotelMainFormDto first = hotelMainFormDtoList.get(0);
+			HotelMainFormDto last = hotelMainFormDtoList.get(hotelMainFormDtoList.size() - 1);
+			if(backward ? more : key != null) {
+				hotelCursorFormDto.setPrevCursor(HotelPageUtil.encodeCursor(cursorValue(num, word, first), first.getSeq()));
+			}
+			if(backward ? key != null : more) {
+				hotelCursorFormDto.setNextCursor(HotelPageUtil.encodeCursor(cursorValue(num, word, last), last.getSeq()));
+			}
+		}
+		return hotelCursorFormDto;
+	}
+	
+	// 색인은 호텔명/지역명 검색에만 사용
+	private boolean useIndex(int num) {
+		return (num == 1 || num == 2) && hotelSearchIndex.isReady();
+	}
+	
+	private Field indexField(int num) {
+		return num == 1 ? Field.NAME : Field.ADDRESS;
+	}
+	
+	private BooleanExpression searchCondition(int num, String word) {
+		QHotel hotel = QHotel.hotel;
+		BooleanExpression where = hotel.status.eq(1L);//status 1인것만
+		if(num == 1) {//호텔명
+			where = where.and(hotel.name.containsIgnoreCase(word));
+		}else if(num == 2) {//지역명
+			where = where.and(hotel.address.containsIgnoreCase(word));
+		}
+		return where;
+	}
+	
+	private ComparableExpressionBase<?> sortKey(int num) {
+		QHotel hotel = QHotel.hotel;
+		if(num == 1) {
+			return hotel.name;
+		}else if(num == 2) {
+			return hotel.address;
+		}
+		return hotel.seq;
 	}
+	
+	// 커서에 담을 정렬값(seq 정렬은 seq만 사용, 색인은 순위 값)
+	private String cursorValue(int num, String word, HotelMainFormDto hotelMainFormDto) {
+		if(num == 0) {
+			return "";
+		}
+		String text = num == 1 ? hotelMainFormDto.getName() : hotelMainFormDto.getAddress();
+		return useIndex(num) ? HotelSearchIndex.cursorValue(word, text) : text;
+	}
+	
+	// seq 목록 순서 그대로 목록 조회
+	private List<HotelMainFormDto> getHotelListBySeq(List<Long> seqList) {
+		if(seqList.isEmpty()) {
+			return new ArrayList<HotelMainFormDto>();
+		}
+		List<HotelMainFormDto> hotelMainFormDtoList = listQuery().where(QHotel.hotel.seq.in(seqList)).fetch();
+		hotelMainFormDtoList.sort(Comparator.comparingInt(dto -> seqList.indexOf(dto.getSeq())));
+		return hotelMainFormDtoList;
+	}
+	
+	// 목록 화면용 projection
+	// 평점/리뷰 수는 호텔에 누적된 집계(ScoreSummary)에서 바로 읽음 -> 리뷰 테이블을 보지 않음
+	private JPAQuery<HotelMainFormDto> listQuery() {
+		QHotel hotel = QHotel.hotel;
+		QScoreSummary summary = hotel.scoreSummary;
+		NumberExpression<Double> avg = new CaseBuilder()
+				.when(summary.reviewCount.gt(0L))
+				.then(summary.scoreSum.doubleValue().divide(summary.reviewCount))
+				.otherwise(0.0);
+		return select()
+				.select(Projections.bean(HotelMainFormDto.class,
+						hotel.seq,
+						hotel.name,
+						hotel.phone,
+						hotel.address,
+						hotel.description,
+						hotel.img,
+						hotel.status,
+						avg.as("avg"),
+						summary.reviewCount.as("reviewCount")))
+				.from(hotel);
+	}
+	
 	public HotelMainFormDto getHotelDetail(long seq){
 		return null;
 	}
@@ -0,0 +1,155 @@
+package kg.groupc.project.service.hotel;
+
+import java.io.Serializable;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+
+import kg.groupc.project.dto.hotel.BookingFormDto;
+import kg.groupc.project.entity.hotel.Booking;
+import kg.groupc.project.entity.hotel.QBooking;
+import kg.groupc.project.entity.hotel.Room;
+import kg.groupc.project.repository.hotel.RoomRepository;
+import kg.groupc.project.service.BaseService;
+import kg.groupc.project.util.RoomOccupancyCalendar;
+
+// 방 예약 가능 여부 확인(날짜 체크, 예약 저장에서 같이 사용)
+@Service
+public class RoomAvailabilityService<T, ID extends Serializable> extends BaseService<Booking, Long> {
+	@Autowired
+	private RoomOccupancyCalendar roomOccupancyCalendar;
+	@Autowired
+	private RoomInventoryService<Room, Long> roomInventoryService;
+	@Autowired
+	private RoomRepository<Room, Long> roomRepository;
+	
+	// 지표 : 달력으로 답한 건수/DB로 확인한 건수와 각각의 누적 시간(나노초)
+	private final AtomicLong calendarChecks = new AtomicLong();
+	private final AtomicLong calendarNanos = new AtomicLong();
+	private final AtomicLong dbChecks = new AtomicLong();
+	private final AtomicLong dbNanos = new AtomicLong();
+	
+	// 날짜 선택 화면용 : 점유 달력으로 먼저 확인하고, 달력 범위 밖이거나 재고 관리 방이면 DB로 확인
+	// 커밋 직후 잠깐은 달력이 늦을 수 있으므로 예약 저장은 isAvailable(DB)로 확인
+	public boolean isAvailableCached(Long roomSeq, Date checkin, Date checkout) {
+		long started = System.nanoTime();
+		Boolean free = roomOccupancyCalendar.isFree(roomSeq, checkin, checkout);
+		if(free != null) {
+			calendarChecks.incrementAndGet();
+			calendarNanos.addAndGet(System.nanoTime() - started);
+			return free;
+		}
+		Room room = roomSeq == null ? null : roomRepository.findById(roomSeq).orElse(null);
+		boolean available = room != null && isAvailable(room, checkin, checkout);
+		dbChecks.incrementAndGet();
+		dbNanos.addAndGet(System.nanoTime() - started);
+		return available;
+	}
+	
+	// 날짜 확인 지표 : 달력/DB(기간 겹침 조회, 재고 조회) 건수와 평균 시간(밀리초), 달력 메모리
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<>();
+		long calendarCount = calendarChecks.get();
+		long dbCount = dbChecks.get();
+		metrics.put("calendarChecks", calendarCount);
+		metrics.put("calendarAvgMillis", calendarNanos.get() / Math.max(1, calendarCount) / 1_000_000.0);
+		metrics.put("dbChecks", dbCount);
+		metrics.put("dbAvgMillis", dbNanos.get() / Math.max(1, dbCount) / 1_000_000.0);
+		metrics.put("calendar", roomOccupancyCalendar.getMetrics());
+		return metrics;
+	}
+	
+	// 방 수에 따라 기간 겹침(1개) 또는 날짜별 재고(2개 이상)로 확인
+	public boolean isAvailable(Room room, Date checkin, Date checkout) {
+		if(room.getStock() > 1) {
+			return roomInventoryService.isAvailable(room, checkin, checkout);
+		}
+		return isAvailable(room.getSeq(), checkin, checkout);
+	}
+	
+	// 해당 월의 빈 날짜(점유 달력 범위 안만), 달력 준비 전이면 빈 목록
+	// 재고 관리 방은 오늘 이후 날짜 중 재고가 남은 날
+	@Transactional(readOnly = true)
+	public List<LocalDate> getFreeNights(Long roomSeq, YearMonth month) {
+		if(roomOccupancyCalendar.isInventoryRoom(roomSeq)) {
+			LocalDate today = LocalDate.now();
+			LocalDate from = month.atDay(1).isBefore(today) ? today : month.atDay(1);
+			LocalDate to = month.atEndOfMonth().plusDays(1);
+			Set<LocalDate> fullNights = roomInventoryService.getFullNights(roomSeq, Date.valueOf(from), Date.valueOf(to));
+			List<LocalDate> freeList = new ArrayList<>();
+			for(LocalDate night = from; night.isBefore(to); night = night.plusDays(1)) {
+				if(!fullNights.contains(night)) {
+					freeList.add(night);
+				}
+			}
+			return freeList;
+		}
+		List<LocalDate> freeList = roomOccupancyCalendar.freeNights(roomSeq, month);
+		return freeList == null ? List.of() : freeList;
+	}
+	
+	// [checkin, checkout) 기간에 겹치는 예약이 없으면 true
+	// 겹침 조건 : 기존 시작일 < checkout AND 기존 종료일 > checkin (부분 겹침 포함)
+	// select 1 ... fetch first 1 rows only 로 (room, reserveDate, reserveEndDate) 인덱스만 보고 끝남
+	@Transactional(readOnly = true)
+	public boolean isAvailable(Long roomSeq, Date checkin, Date checkout) {
+		if(roomSeq == null || checkin == null || checkout == null || !checkin.before(checkout)) {
+			return false;
+		}
+		QBooking booking = QBooking.booking;
+		Integer exists = select()
+				.select(Expressions.ONE)
+				.from(booking)
+				.where(booking.room.seq.eq(roomSeq),
+						booking.reserveDate.lt(checkout),
+						booking.reserveEndDate.gt(checkin))
+				.fetchFirst();
+		return exists == null;
+	}
+	
+	// 단체 예약용(방이 1개인 타입만) : 모든 방/기간이 비어 있으면 true(방 수와 상관없이 쿼리 1번)
+	// 요청끼리 같은 방의 기간이 겹치는 경우도 false
+	@Transactional(readOnly = true)
+	public boolean isAvailableAll(List<BookingFormDto> bookingFormDtoList) {
+		QBooking booking = QBooking.booking;
+		BooleanBuilder overlap = new BooleanBuilder();
+		for(int i = 0; i < bookingFormDtoList.size(); i++) {
+			BookingFormDto dto = bookingFormDtoList.get(i);
+			if(dto.getSeq() == null || dto.getCheckin() == null || dto.getCheckout() == null || !dto.getCheckin().before(dto.getCheckout())) {
+				return false;
+			}
+			for(int j = 0; j < i; j++) {
+				BookingFormDto other = bookingFormDtoList.get(j);
+				if(dto.getSeq().equals(other.getSeq())
+						&& dto.getCheckin().before(other.getCheckout()) && other.getCheckin().before(dto.getCheckout())) {
+					return false;
+				}
+			}
+			overlap.or(booking.room.seq.eq(dto.getSeq())
+					.and(booking.reserveDate.lt(dto.getCheckout()))
+					.and(booking.reserveEndDate.gt(dto.getCheckin())));
+		}
+		if(!overlap.hasValue()) {
+			return false;
+		}
+		Integer exists = select()
+				.select(Expressions.ONE)
+				.from(booking)
+				.where(overlap)
+				.fetchFirst();
+		return exists == null;
+	}
+}
@@ -0,0 +1,140 @@
+package kg.groupc.project.service.hotel;
+
+import java.io.Serializable;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.Expressions;
+
+import kg.groupc.project.entity.hotel.QBooking;
+import kg.groupc.project.entity.hotel.QRoomInventory;
+import kg.groupc.project.entity.hotel.Room;
+import kg.groupc.project.entity.hotel.RoomInventory;
+import kg.groupc.project.repository.hotel.RoomInventoryRepository;
+import kg.groupc.project.service.BaseService;
+
+// 방 타입별 날짜 재고(Room.stock > 1 인 방)
+// 예약 가능 여부는 숙박일 수만큼의 재고 행만 읽고, 예약은 booked < allotment 조건부 UPDATE 로 차감
+@Service
+public class RoomInventoryService<T, ID extends Serializable> extends BaseService<RoomInventory, Long> {
+	@Autowired
+	private RoomInventoryRepository<RoomInventory, Long> roomInventoryRepository;
+	
+	// [checkin, checkout) 의 모든 밤에 남은 방이 있으면 true(재고 행이 없는 밤은 예약 없음)
+	@Transactional(readOnly = true)
+	public boolean isAvailable(Room room, Date checkin, Date checkout) {
+		if(checkin == null || checkout == null || !checkin.before(checkout) || room.getStock() < 1) {
+			return false;
+		}
+		QRoomInventory inventory = QRoomInventory.roomInventory;
+		Integer full = select()
+				.select(Expressions.ONE)
+				.from(inventory)
+				.where(inventory.room.eq(room),
+						inventory.night.goe(checkin),
+						inventory.night.lt(checkout),
+						inventory.booked.goe(inventory.allotment))
+				.fetchFirst();
+		return full == null;
+	}
+	
+	// from ~ to(미포함) 중 남은 방이 없는 밤
+	@Transactional(readOnly = true)
+	public Set<LocalDate> getFullNights(Long roomSeq, Date from, Date to) {
+		QRoomInventory inventory = QRoomInventory.roomInventory;
+		Set<LocalDate> fullNights = new HashSet<>();
+		for(Date night : select()
+				.select(inventory.night)
+				.from(inventory)
+				.where(inventory.room.seq.eq(roomSeq),
+						inventory.night.goe(from),
+						inventory.night.lt(to),
+						inventory.booked.goe(inventory.allotment))
+				.fetch()) {
+			fullNights.add(night.toLocalDate());
+		}
+		return fullNights;
+	}
+	
+	// 재고 차감, 한 밤이라도 남은 방이 없으면 false
+	// false 이면 일부 밤은 이미 차감되었으므로 호출하는 쪽 트랜잭션을 롤백해야 함
+	// 방 행을 잠근(FOR UPDATE) 상태에서 호출(재고 행 생성이 겹치지 않도록)
+	@Transactional
+	public boolean reserve(Room room, Date checkin, Date checkout) {
+		if(!isAvailable(room, checkin, checkout)) {
+			return false;
+		}
+		createMissingNights(room, checkin, checkout);
+		QRoomInventory inventory = QRoomInventory.roomInventory;
+		long updated = update(inventory)
+				.set(inventory.booked, inventory.booked.add(1L))
+				.where(inventory.room.eq(room),
+						inventory.night.goe(checkin),
+						inventory.night.lt(checkout),
+						inventory.booked.lt(inventory.allotment))
+				.execute();
+		return updated == ChronoUnit.DAYS.between(checkin.toLocalDate(), checkout.toLocalDate());
+	}
+	
+	// 재고 행이 없는 밤을 만듦, booked 는 기존 예약 수로 채움(재고 도입 전 예약 반영)
+	private void createMissingNights(Room room, Date checkin, Date checkout) {
+		QRoomInventory inventory = QRoomInventory.roomInventory;
+		Set<LocalDate> existNights = new HashSet<>();
+		for(Date night : select()
+				.select(inventory.night)
+				.from(inventory)
+				.where(inventory.room.eq(room),
+						inventory.night.goe(checkin),
+						inventory.night.lt(checkout))
+				.fetch()) {
+			existNights.add(night.toLocalDate());
+		}
+		LocalDate from = checkin.toLocalDate();
+		LocalDate to = checkout.toLocalDate();
+		if(existNights.size() == ChronoUnit.DAYS.between(from, to)) {
+			return;
+		}
+		
+		QBooking booking = QBooking.booking;
+		Map<LocalDate, Long> bookedMap = new HashMap<>();
+		for(Tuple tuple : select()
+				.select(booking.reserveDate, booking.reserveEndDate)
+				.from(booking)
+				.where(booking.room.eq(room),
+						booking.reserveDate.lt(checkout),
+						booking.reserveEndDate.gt(checkin))
+				.fetch()) {
+			LocalDate start = tuple.get(booking.reserveDate).toLocalDate();
+			LocalDate end = tuple.get(booking.reserveEndDate).toLocalDate();
+			for(LocalDate night = start.isBefore(from) ? from : start; night.isBefore(end) && night.isBefore(to); night = night.plusDays(1)) {
+				bookedMap.merge(night, 1L, Long::sum);
+			}
+		}
+		
+		List<RoomInventory> inventoryList = new ArrayList<>();
+		for(LocalDate night = from; night.isBefore(to); night = night.plusDays(1)) {
+			if(!existNights.contains(night)) {
+				RoomInventory roomInventory = new RoomInventory();
+				roomInventory.setRoom(room);
+				roomInventory.setNight(Date.valueOf(night));
+				roomInventory.setAllotment(room.getStock());
+				roomInventory.setBooked(bookedMap.getOrDefault(night, 0L));
+				inventoryList.add(roomInventory);
+			}
+		}
+		roomInventoryRepository.saveAll(inventoryList);
+		roomInventoryRepository.flush();
+	}
+}
@@ -1,9 +1,7 @@
 package kg.groupc.project.service.restaurant;
 
-import java.io.File;
+import java.io.InputStream;
 import java.io.Serializable;
-import java.util.List;
-import java.util.UUID;
 
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +15,9 @@ import kg.groupc.project.entity.restaurant.Restaurant;
 import kg.groupc.project.repository.restaurant.MenuRepository;
 import kg.groupc.project.repository.restaurant.RestaurantRepository;
 import kg.groupc.project.service.BaseService;
+import kg.groupc.project.util.ContentAddressedImageStore;
+import kg.groupc.project.util.ImageVariantProcessor;
+import kg.groupc.project.util.RestaurantDetailCache;
 
 @Service
 public class MenuService <T, ID extends Serializable> extends BaseService<Menu, Long> {
@@ -27,8 +28,17 @@ public class MenuService <T, ID extends Serializable> extends BaseService<Menu,
 	@Autowired
 	private RestaurantRepository<Restaurant, Long> restaurantRepository;
 	
+	@Autowired
+	private RestaurantDetailCache restaurantDetailCache;
+	
+	@Autowired
+	private ImageVariantProcessor imageVariantProcessor;
+	
+	@Autowired
+	private ContentAddressedImageStore imageStore;
+	
 	// 메뉴 등록
-	public Menu create(MenuAddFormDto menuAddFormDto, MultipartFile file, String path) throws Exception {
+	public Menu create(MenuAddFormDto menuAddFormDto, MultipartFile file) throws Exception {
 		System.out.println("uloki"+menuAddFormDto.getRestaurant());
 		Restaurant restaurant = restaurantRepository.findBySeq(menuAddFormDto.getRestaurant());
 		Menu menu = Menu.createMenu(menuAddFormDto, restaurant);
@@ -38,19 +48,17 @@ public class MenuService <T, ID extends Serializable> extends BaseService<Menu,
 			String originalFileName = uploadFile.getOriginalFilename();
 			String ext = FilenameUtils.getExtension(originalFileName);
 			
-			UUID uuid = UUID.randomUUID();
-			img = uuid+"."+ext;
-			uploadFile.transferTo(new File(path + img));
+			// 이미지 저장소(같은 이미지는 한 번만 저장), 크기별 변환은 백그라운드에서
+			try(InputStream input = uploadFile.getInputStream()) {
+				img = imageStore.store(input, ext);
+			}
+			imageVariantProcessor.submitIfMissing(imageStore.resolve(img).toFile());
 		}
 		menu.setImg(img);
 		
-		return menuRepository.save(menu);
-	}
-	
-	// 메뉴 리스트
-	@Transactional(readOnly = true)
-	public List<Menu> menuList(Long restaurant) {
-		return menuRepository.findByRestaurant(restaurant);
+		Menu saved = menuRepository.save(menu);
+		restaurantDetailCache.evict(menuAddFormDto.getRestaurant());
+		return saved;
 	}
 	
 	// 메뉴 상세보기
@@ -60,6 +68,7 @@ public class MenuService <T, ID extends Serializable> extends BaseService<Menu,
 	}
 	
 	// 메뉴 삭제
+	@Transactional
 	public Menu delete(Long seq) {
 		Menu menu = menuRepository.findById(seq).orElse(null);
 		
@@ -68,10 +77,12 @@ public class MenuService <T, ID extends Serializable> extends BaseService<Menu,
 		}
 		
 		menuRepository.delete(menu);
+		restaurantDetailCache.evict(menu.getRestaurant().getSeq());
 		return menu;
 	}
 	
 	// 메뉴 수정
+	@Transactional
 	public Menu edit(Long seq, MenuAddFormDto menuAddFormDto) {
 		Restaurant restaurant = restaurantRepository.findBySeq(menuAddFormDto.getRestaurant());
 		Menu menu = Menu.createMenu(menuAddFormDto, restaurant);
@@ -80,7 +91,10 @@ public class MenuService <T, ID extends Serializable> extends BaseService<Menu,
 			return null;
 		}
 		
+		// 다른 맛집으로 옮기면 두 맛집 모두 제거
+		restaurantDetailCache.evict(target.getRestaurant().getSeq());
 		target.patch(menu);
+		restaurantDetailCache.evict(target.getRestaurant().getSeq());
 		return menuRepository.save(target);	
 	}
 }
@@ -4,16 +4,27 @@ import java.io.Serializable;
 import java.sql.Date;
 import java.time.LocalDate;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import kg.groupc.project.dto.review.ReviewFormDto;
-import kg.groupc.project.entity.account.Account;
+import kg.groupc.project.entity.hotel.Hotel;
+import kg.groupc.project.entity.restaurant.QRestaurant;
+import kg.groupc.project.entity.restaurant.QRestaurantScore;
 import kg.groupc.project.entity.restaurant.Restaurant;
 import kg.groupc.project.entity.restaurant.RestaurantScore;
-import kg.groupc.project.repository.account.AccountRepository;
 import kg.groupc.project.repository.restaurant.RestaurantRepository;
 import kg.groupc.project.repository.restaurant.RestaurantScoreRepository;
 import kg.groupc.project.service.BaseService;
+import kg.groupc.project.service.home.LeaderboardService;
+import kg.groupc.project.util.AccountCache;
+import kg.groupc.project.util.RestaurantDetailCache;
+import kg.groupc.project.util.ScoreSummaryUtil;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -21,17 +32,55 @@ import lombok.RequiredArgsConstructor;
 public class RestaurantScoreService<T, ID extends Serializable> extends BaseService<RestaurantScore, Long> {
 	private final RestaurantRepository<Restaurant, Long> restaurantRepository;
 	private final RestaurantScoreRepository<RestaurantScore, Long> restaurantScoreRepository;
-	private final AccountRepository<Account, Long> accountRepository;
+	private final AccountCache accountCache;
+	private final RestaurantDetailCache restaurantDetailCache;
+	private final LeaderboardService<Hotel, Long> leaderboardService;
 	
+	@Value("${score.summary.rebuild-on-startup:true}")
+	private boolean rebuildOnStartup;
+	
+	// 리뷰 저장 + 맛집 평점 집계 누적(같은 트랜잭션)
+	@Transactional
 	public RestaurantScore saveRestaurantScore(ReviewFormDto reviewFormDto, Long seq, String userId) {
+		ScoreSummaryUtil.checkScore(reviewFormDto.getScore());
 		Restaurant restaurant = restaurantRepository.findById(seq).get();
 		RestaurantScore restaurantScore = new RestaurantScore();
 		restaurantScore.setRestaurant(restaurant);
-		restaurantScore.setWriter(accountRepository.findByUserId(userId));
+		restaurantScore.setWriter(accountCache.getReference(userId));
 		restaurantScore.setScore(reviewFormDto.getScore());
 		restaurantScore.setDescription(reviewFormDto.getReviewDesc());
 		restaurantScore.setDay(Date.valueOf(LocalDate.now()));
 		
-		return restaurantScoreRepository.save(restaurantScore);
+		RestaurantScore saved = restaurantScoreRepository.save(restaurantScore);
+		QRestaurant qRestaurant = QRestaurant.restaurant;
+		ScoreSummaryUtil.addScore(update(qRestaurant), qRestaurant.scoreSummary, reviewFormDto.getScore())
+				.where(qRestaurant.seq.eq(seq))
+				.execute();
+		restaurantDetailCache.evict(seq);
+		leaderboardService.restaurantScoreAdded(restaurant, reviewFormDto.getScore());
+		return saved;
+	}
+	
+	// 시작 시 평점 집계 재계산(집계 컬럼이 생기기 전의 리뷰 반영)
+	// 홈 화면 순위(LeaderboardService.reconcile)가 집계 컬럼을 읽기 전에 실행
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@Transactional
+	public void rebuildOnStartup() {
+		if(rebuildOnStartup) {
+			rebuildScoreSummary();
+		}
+	}
+	
+	// 맛집 평점 집계 재계산(관리자 복구용), 재계산한 맛집 수 반환
+	@Transactional
+	public int rebuildScoreSummary() {
+		QRestaurant qRestaurant = QRestaurant.restaurant;
+		QRestaurantScore qRestaurantScore = QRestaurantScore.restaurantScore;
+		long count = ScoreSummaryUtil.recompute(update(qRestaurant), qRestaurant.scoreSummary,
+				qRestaurantScore, qRestaurantScore.score, qRestaurantScore.restaurant.eq(qRestaurant))
+				.execute();
+		restaurantDetailCache.clear();
+		return (int) count;
 	}
 }
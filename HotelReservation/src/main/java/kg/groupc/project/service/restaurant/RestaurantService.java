@@ -1,8 +1,7 @@
 package kg.groupc.project.service.restaurant;
 
-import java.io.File;
+import java.io.InputStream;
 import java.io.Serializable;
-import java.util.UUID;
 
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,9 +12,15 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import kg.groupc.project.dto.restaurant.RestaurantAddFormDto;
+import kg.groupc.project.dto.restaurant.RestaurantDetailDto;
+import kg.groupc.project.entity.hotel.Hotel;
 import kg.groupc.project.entity.restaurant.Restaurant;
 import kg.groupc.project.repository.restaurant.RestaurantRepository;
 import kg.groupc.project.service.BaseService;
+import kg.groupc.project.service.home.LeaderboardService;
+import kg.groupc.project.util.ContentAddressedImageStore;
+import kg.groupc.project.util.ImageVariantProcessor;
+import kg.groupc.project.util.RestaurantDetailCache;
 
 @Service
 public class RestaurantService<T, ID extends Serializable> extends BaseService<Restaurant, Long> {
@@ -23,6 +28,18 @@ public class RestaurantService<T, ID extends Serializable> extends BaseService<R
 	@Autowired
 	private RestaurantRepository<Restaurant, Long> restaurantRepository;
 	
+	@Autowired
+	private RestaurantDetailCache restaurantDetailCache;
+	
+	@Autowired
+	private ImageVariantProcessor imageVariantProcessor;
+	
+	@Autowired
+	private ContentAddressedImageStore imageStore;
+	
+	@Autowired
+	private LeaderboardService<Hotel, Long> leaderboardService;
+	
 	public Restaurant getRestaurantBySeq(Long seq) {
 		return restaurantRepository.findById(seq).get();
 	}
@@ -39,6 +56,17 @@ public class RestaurantService<T, ID extends Serializable> extends BaseService<R
 		return restaurantRepository.findById(seq).orElse(null);
 	}
 		
+	// 맛집 상세 화면(맛집 + 메뉴, 캐시), 없으면 null
+	public RestaurantDetailDto getRestaurantDetail(Long seq) {
+		return restaurantDetailCache.get(seq, this::loadRestaurantDetail);
+	}
+	
+	// 맛집과 메뉴를 fetch join 한 번으로 조회
+	private RestaurantDetailDto loadRestaurantDetail(Long seq) {
+		Restaurant restaurant = restaurantRepository.findWithMenusBySeq(seq);
+		return restaurant == null ? null : RestaurantDetailDto.of(restaurant);
+	}
+		
 	// 서치(상호명) + 페이징
 	@Transactional(readOnly = true)
 	public Page<Restaurant> search1(String searchKeyword, Pageable pageable) {
@@ -74,7 +102,7 @@ public class RestaurantService<T, ID extends Serializable> extends BaseService<R
 	
 	// 맛집 등록(관리자)
 	public Restaurant create(RestaurantAddFormDto restaurantAddFormDto, 
-			MultipartFile file, String path) throws Exception {
+			MultipartFile file) throws Exception {
 		Restaurant restaurant = restaurantAddFormDto.toEntity();
 		
 		String img = null;
@@ -83,9 +111,11 @@ public class RestaurantService<T, ID extends Serializable> extends BaseService<R
 			String originalFileName = uploadFile.getOriginalFilename();
 			String ext = FilenameUtils.getExtension(originalFileName);
 			
-			UUID uuid = UUID.randomUUID();
-			img = uuid+"."+ext;
-			uploadFile.transferTo(new File(path + img));
+			// 이미지 저장소(같은 이미지는 한 번만 저장), 크기별 변환은 백그라운드에서
+			try(InputStream input = uploadFile.getInputStream()) {
+				img = imageStore.store(input, ext);
+			}
+			imageVariantProcessor.submitIfMissing(imageStore.resolve(img).toFile());
 		}
 		restaurant.setImg(img);
 		
@@ -102,6 +132,8 @@ public class RestaurantService<T, ID extends Serializable> extends BaseService<R
 		}
 		
 		target.patch(restaurant);
+		restaurantDetailCache.evict(seq);
+		leaderboardService.restaurantEdited(target);
 		return restaurantRepository.save(target);
 	}
 	
@@ -114,6 +146,8 @@ public class RestaurantService<T, ID extends Serializable> extends BaseService<R
 		}
 		
 		restaurantRepository.delete(restaurant);
+		restaurantDetailCache.evict(seq);
+		leaderboardService.restaurantRemoved(seq);
 		return restaurant;
 	}
 }
\ No newline at end of file
@@ -3,18 +3,30 @@ package kg.groupc.project.service.restaurant;
 import java.io.Serializable;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import kg.groupc.project.entity.hotel.Hotel;
+import kg.groupc.project.entity.restaurant.Restaurant;
 import kg.groupc.project.entity.restaurant.Stars;
 import kg.groupc.project.repository.restaurant.StarsRepository;
 import kg.groupc.project.service.BaseService;
+import kg.groupc.project.service.home.LeaderboardService;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class StarsService<T, ID extends Serializable> extends BaseService<Stars, Long> {
 	private final StarsRepository<Stars, Long> starsRepository;
+	private final LeaderboardService<Hotel, Long> leaderboardService;
 	
+	// 즐겨찾기 저장 + 즐겨찾기 순위 반영(커밋 후)
+	@Transactional
 	public Stars saveStars(Stars stars) {
-		return starsRepository.save(stars);
+		Stars saved = starsRepository.save(stars);
+		Restaurant restaurant = saved.getRestaurant();
+		if(restaurant != null) {
+			leaderboardService.restaurantFavoriteAdded(restaurant);
+		}
+		return saved;
 	}
 }
@@ -0,0 +1,51 @@
+package kg.groupc.project.util;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.dto.account.AccountSummaryDto;
+import kg.groupc.project.entity.account.Account;
+import kg.groupc.project.repository.account.AccountRepository;
+
+// 계정 캐시(메모리, userId -> seq/비밀번호/권한/상태)
+// 로그인과 예약/리뷰/문의 저장 때마다 계정 행을 다시 읽지 않도록 함
+// 최대 maxSize 건(가장 오래 안 쓴 것부터 제거), 적재 후 ttl 이 지나면 다시 조회
+// 계정 정보/비밀번호 변경, 탈퇴 시 AccountService 에서 해당 사용자만 제거
+// 서버마다 따로 캐시하므로 다른 서버에서 바꾼 비밀번호/탈퇴는 이 서버에서 최대 ttl 동안 반영되지 않음(ttl 을 짧게 유지)
+@Component
+public class AccountCache {
+
+	@Autowired(required = false)
+	private AccountRepository<Account, Long> accountRepository;
+	@PersistenceContext
+	private EntityManager em;
+
+	private final BoundedCache<String, AccountSummaryDto> cache;
+
+	public AccountCache(@Value("${account.cache.max-size:10000}") int maxSize,
+			@Value("${account.cache.ttl-seconds:30}") long ttlSeconds) {
+		this.cache = new BoundedCache<>(maxSize, TimeUnit.SECONDS.toNanos(ttlSeconds));
+	}
+
+	// 계정 정보, 없는 계정이면 null(없는 계정은 캐시하지 않음)
+	public AccountSummaryDto get(String userId) {
+		return cache.get(userId, accountRepository::findSummaryByUserId);
+	}
+
+	// 작성자/예약자 지정용 계정 참조(SELECT 없이 seq 만 가진 프록시), 없는 계정이면 null
+	public Account getReference(String userId) {
+		AccountSummaryDto account = get(userId);
+		return account == null ? null : em.getReference(Account.class, account.getSeq());
+	}
+
+	// 계정 정보/비밀번호 변경, 탈퇴 시
+	public void evict(String userId) {
+		cache.evict(userId);
+	}
+}
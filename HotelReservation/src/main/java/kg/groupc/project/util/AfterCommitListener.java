@@ -0,0 +1,23 @@
+package kg.groupc.project.util;
+
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+// 엔티티 변경을 메모리 구조(검색 색인, 점유/요금 달력)에 커밋 후 반영하는 엔티티 리스너의 공통 부분
+// 엔티티 리스너는 EntityManagerFactory 생성 중에 빈으로 만들어지는데, 대상 구조는 Repository(= EntityManagerFactory)를 주입받으므로
+// 생성자에서 바로 주입받으면 순환 참조가 됨 : ObjectProvider 로 받아 두고 실제로 반영할 때 꺼냄
+public abstract class AfterCommitListener<T> {
+	
+	private final ObjectProvider<T> target;
+	
+	protected AfterCommitListener(ObjectProvider<T> target) {
+		this.target = target;
+	}
+	
+	// 트랜잭션 안이면 커밋 후에, 아니면 바로 반영
+	// 엔티티 값은 호출 시점에 꺼내서 넘길 것(커밋 후에는 엔티티가 다시 바뀌었을 수 있음)
+	protected void afterCommit(Consumer<T> action) {
+		TransactionUtil.afterCommit(() -> action.accept(target.getObject()));
+	}
+}
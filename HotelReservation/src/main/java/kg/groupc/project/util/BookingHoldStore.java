@@ -0,0 +1,130 @@
+package kg.groupc.project.util;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Component;
+
+// 예약 임시 점유(hold) 저장소(메모리, DB 쓰기 없음)
+// 날짜를 고른 사용자에게 HOLD_MILLIS 동안 방/기간을 잡아두고, 그동안 다른 사용자는 같은 기간을 예약할 수 없음
+// 예약 저장 시 해당 hold 는 해제되고, 저장하지 않으면 타이밍 휠에서 만료될 때 자동 해제
+@Component
+public class BookingHoldStore {
+
+	// hold 유지 시간(10분)
+	public static final long HOLD_MILLIS = 10 * 60 * 1000L;
+
+	private static class Hold {
+		final Long roomSeq;
+		final long fromDay;
+		final long toDay;
+		final String userId;
+		final long expireAt;
+		boolean released;
+
+		Hold(Long roomSeq, long fromDay, long toDay, String userId, long expireAt) {
+			this.roomSeq = roomSeq;
+			this.fromDay = fromDay;
+			this.toDay = toDay;
+			this.userId = userId;
+			this.expireAt = expireAt;
+		}
+
+		boolean overlaps(long from, long to) {
+			return fromDay < to && toDay > from;
+		}
+	}
+
+	// 현재 시각(밀리초), 테스트에서 교체
+	LongSupplier clock = System::currentTimeMillis;
+
+	// 방 seq -> 살아있는 hold 목록
+	private final Map<Long, List<Hold>> roomHolds = new HashMap<>();
+	private TimingWheel<Hold> wheel;
+
+	// 사용자의 hold 를 잡음(같은 방의 이전 hold 는 교체), 다른 사용자의 hold 와 겹치면 false
+	public synchronized boolean hold(Long roomSeq, Date checkin, Date checkout, String userId) {
+		long now = expire();
+		long from = checkin.toLocalDate().toEpochDay();
+		long to = checkout.toLocalDate().toEpochDay();
+		if(isHeldByOthers(roomSeq, from, to, userId)) {
+			return false;
+		}
+		releaseUser(roomSeq, userId);
+		Hold hold = new Hold(roomSeq, from, to, userId, now + HOLD_MILLIS);
+		roomHolds.computeIfAbsent(roomSeq, k -> new ArrayList<>()).add(hold);
+		wheel.add(hold, hold.expireAt);
+		return true;
+	}
+
+	// 다른 사용자가 잡아둔 기간과 겹치면 true
+	public synchronized boolean isHeldByOthers(Long roomSeq, Date checkin, Date checkout, String userId) {
+		expire();
+		return isHeldByOthers(roomSeq, checkin.toLocalDate().toEpochDay(), checkout.toLocalDate().toEpochDay(), userId);
+	}
+
+	// 예약 저장 후 사용자의 hold 해제
+	public synchronized void release(Long roomSeq, String userId) {
+		expire();
+		releaseUser(roomSeq, userId);
+	}
+
+	// 살아있는 hold 수
+	public synchronized int size() {
+		expire();
+		int count = 0;
+		for(List<Hold> holdList : roomHolds.values()) {
+			count += holdList.size();
+		}
+		return count;
+	}
+
+	private boolean isHeldByOthers(Long roomSeq, long from, long to, String userId) {
+		List<Hold> holdList = roomHolds.get(roomSeq);
+		if(holdList == null) {
+			return false;
+		}
+		for(Hold hold : holdList) {
+			if(!hold.userId.equals(userId) && hold.overlaps(from, to)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void releaseUser(Long roomSeq, String userId) {
+		List<Hold> holdList = roomHolds.get(roomSeq);
+		if(holdList == null) {
+			return;
+		}
+		for(Iterator<Hold> it = holdList.iterator(); it.hasNext();) {
+			Hold hold = it.next();
+			if(hold.userId.equals(userId)) {
+				hold.released = true;//휠에서는 만료될 때 건너뜀
+				it.remove();
+			}
+		}
+		if(holdList.isEmpty()) {
+			roomHolds.remove(roomSeq);
+		}
+	}
+
+	// 만료된 hold 제거, 현재 시각 반환
+	private long expire() {
+		long now = clock.getAsLong();
+		if(wheel == null) {
+			wheel = new TimingWheel<>(1000L, now);
+		}
+		wheel.advance(now, hold -> {
+			if(!hold.released) {
+				releaseUser(hold.roomSeq, hold.userId);
+			}
+		});
+		return now;
+	}
+}
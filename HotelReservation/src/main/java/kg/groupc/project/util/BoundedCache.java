@@ -0,0 +1,130 @@
+package kg.groupc.project.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// 최대 건수가 정해진 메모리 캐시(AccountCache, RestaurantDetailCache 가 사용)
+// 최대 maxSize 건(가장 오래 안 쓴 것부터 제거), ttlNanos 가 0 보다 크면 적재 후 그 시간이 지나면 다시 조회
+// 없는 값(loader 가 null 반환)은 캐시하지 않음
+public class BoundedCache<K, V> {
+
+	private final int maxSize;
+	private final long ttlNanos;
+
+	// 현재 시각(나노초), 테스트에서 교체
+	LongSupplier clock = System::nanoTime;
+
+	private static class Entry<V> {
+		final V value;
+		final long loadedAt;
+
+		Entry(V value, long loadedAt) {
+			this.value = value;
+			this.loadedAt = loadedAt;
+		}
+	}
+
+	// 접근 순서 LinkedHashMap(LRU)
+	private final Map<K, Entry<V>> cache;
+
+	// 제거 횟수 : 조회(잠금 밖) 중에 제거가 있었으면 읽은 값이 이미 바뀌었을 수 있으므로 넣지 않음
+	private long evictCount;
+
+	// 지표
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong loadTimeTotal = new AtomicLong();
+	private final AtomicLong loadTimeMax = new AtomicLong();
+
+	public BoundedCache(int maxSize, long ttlNanos) {
+		this.maxSize = maxSize;
+		this.ttlNanos = ttlNanos;
+		this.cache = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > BoundedCache.this.maxSize;
+			}
+		};
+	}
+
+	public V get(K key, Function<K, V> loader) {
+		if(key == null) {
+			return null;
+		}
+		long evictCountBefore;
+		synchronized(cache) {
+			Entry<V> entry = cache.get(key);
+			if(entry != null && (ttlNanos <= 0 || clock.getAsLong() - entry.loadedAt < ttlNanos)) {
+				hits.incrementAndGet();
+				return entry.value;
+			}
+			evictCountBefore = evictCount;
+		}
+		misses.incrementAndGet();
+		// DB 조회는 잠금 밖에서(같은 키를 동시에 조회하면 둘 다 읽을 수 있음)
+		long started = clock.getAsLong();
+		V value = loader.apply(key);
+		long elapsed = clock.getAsLong() - started;
+		loadTimeTotal.addAndGet(elapsed);
+		loadTimeMax.accumulateAndGet(elapsed, Math::max);
+		if(value != null) {
+			synchronized(cache) {
+				if(evictCount == evictCountBefore) {
+					cache.put(key, new Entry<>(value, started));
+				}
+			}
+		}
+		return value;
+	}
+
+	// 바로 제거하고, 트랜잭션 안이면 끝난 뒤에 한 번 더 제거
+	// (커밋 전에 다른 요청이 이전 값을 읽어 다시 넣는 것을 막음)
+	public void evict(K key) {
+		if(key != null) {
+			removeNowAndAfterCompletion(() -> cache.remove(key));
+		}
+	}
+
+	public void clear() {
+		removeNowAndAfterCompletion(cache::clear);
+	}
+
+	private void removeNowAndAfterCompletion(Runnable removal) {
+		remove(removal);
+		TransactionUtil.afterCompletion(() -> remove(removal));
+	}
+
+	private void remove(Runnable removal) {
+		synchronized(cache) {
+			removal.run();
+			evictCount++;
+		}
+	}
+
+	public int size() {
+		synchronized(cache) {
+			return cache.size();
+		}
+	}
+
+	// 건수, 적중/실패 건수와 적중률, 평균/최대 조회 시간(밀리초)
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<>();
+		long hit = hits.get();
+		long miss = misses.get();
+		metrics.put("size", size());
+		metrics.put("maxSize", maxSize);
+		metrics.put("hits", hit);
+		metrics.put("misses", miss);
+		metrics.put("hitRatio", hit + miss == 0 ? 0.0 : (double) hit / (hit + miss));
+		metrics.put("loadTimeAvgMillis", loadTimeTotal.get() / Math.max(1, miss) / 1_000_000.0);
+		metrics.put("loadTimeMaxMillis", loadTimeMax.get() / 1_000_000.0);
+		return metrics;
+	}
+}
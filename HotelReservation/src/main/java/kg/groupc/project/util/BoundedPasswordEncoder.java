@@ -0,0 +1,130 @@
+package kg.groupc.project.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// BCrypt 해시/비교를 전용 스레드 풀(CPU 코어 수)에서 실행하는 PasswordEncoder
+// 로그인이 몰려도 해시 계산은 코어 수만큼만 동시에 돌고, 대기열이 가득 차면 바로 Busy(503)로 거절해서
+// 요청 스레드가 해시 계산으로 모두 묶여 예약 요청이 밀리지 않게 함
+// 저장된 해시의 cost 가 strength 보다 낮으면 upgradeEncoding 이 true(로그인 성공 시 다시 해시해서 저장)
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	// 해시 대기열이 가득 참
+	@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public static class BusyException extends AuthenticationServiceException {
+		private static final long serialVersionUID = 1L;
+
+		public BusyException() {
+			super("password encoder busy");
+		}
+	}
+
+	private final BCryptPasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+
+	// 지표(나노초)
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong queueWaitTotal = new AtomicLong();
+	private final AtomicLong queueWaitMax = new AtomicLong();
+	private final AtomicLong hashTimeTotal = new AtomicLong();
+	private final AtomicLong hashTimeMax = new AtomicLong();
+
+	public BoundedPasswordEncoder(int strength, int threads, int queueCapacity) {
+		this.delegate = new BCryptPasswordEncoder(strength);
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "password-hash");
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	// 대기 건수, 처리/거절 건수, 평균/최대 대기 시간, 평균/최대 해시 시간(밀리초)
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<>();
+		long count = Math.max(1, completed.get());
+		metrics.put("threads", executor.getMaximumPoolSize());
+		metrics.put("queued", executor.getQueue().size());
+		metrics.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+		metrics.put("completed", completed.get());
+		metrics.put("rejected", rejected.get());
+		metrics.put("queueWaitAvgMillis", queueWaitTotal.get() / count / 1_000_000.0);
+		metrics.put("queueWaitMaxMillis", queueWaitMax.get() / 1_000_000.0);
+		metrics.put("hashTimeAvgMillis", hashTimeTotal.get() / count / 1_000_000.0);
+		metrics.put("hashTimeMaxMillis", hashTimeMax.get() / 1_000_000.0);
+		return metrics;
+	}
+
+	// 빈 종료 시 호출
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private <R> R run(Supplier<R> hash) {
+		long submitted = System.nanoTime();
+		Future<R> future;
+		try {
+			future = executor.submit(() -> {
+				long started = System.nanoTime();
+				try {
+					return hash.get();
+				}finally {
+					long finished = System.nanoTime();
+					record(queueWaitTotal, queueWaitMax, started - submitted);
+					record(hashTimeTotal, hashTimeMax, finished - started);
+					completed.incrementAndGet();
+				}
+			});
+		}catch(RejectedExecutionException e) {
+			rejected.incrementAndGet();
+			throw new BusyException();
+		}
+		try {
+			return future.get();
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new BusyException();
+		}catch(ExecutionException e) {
+			if(e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static void record(AtomicLong total, AtomicLong max, long nanos) {
+		total.addAndGet(nanos);
+		max.accumulateAndGet(nanos, Math::max);
+	}
+}
@@ -0,0 +1,158 @@
+package kg.groupc.project.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+// 세션 저장소 감싸기 : 요청마다 생기는 DB 쓰기를 줄임
+// 세션 저장소(JDBC 등)는 요청이 끝날 때마다 마지막 접근 시각을 저장하는데,
+// 속성/만료 시간/세션 id 가 바뀌지 않았고 마지막으로 저장한 접근 시각과 차이가 window 보다 작으면 저장을 건너뜀
+// 속성 변경은 요청 끝에 한 번에 저장(저장소의 flush 방식 그대로)
+// 저장된 접근 시각이 최대 window 만큼 늦으므로 세션은 최대 window 만큼 일찍 만료될 수 있음
+// (window 는 세션 유지 시간보다 충분히 짧아야 함, SessionConfig 에서 확인)
+public class CoalescingSessionRepository<S extends Session>
+		implements FindByIndexNameSessionRepository<CoalescingSessionRepository.CoalescingSession<S>> {
+
+	private final FindByIndexNameSessionRepository<S> delegate;
+	private final Duration window;
+
+	// 지표
+	private final AtomicLong saved = new AtomicLong();
+	private final AtomicLong skipped = new AtomicLong();
+
+	public CoalescingSessionRepository(FindByIndexNameSessionRepository<S> delegate, Duration window) {
+		this.delegate = delegate;
+		this.window = window;
+	}
+
+	// 변경 여부를 기록하는 세션
+	public static class CoalescingSession<S extends Session> implements Session {
+		private final S session;
+		// 저장소에 저장된 마지막 접근 시각
+		private Instant persistedLastAccessedTime;
+		private boolean dirty;
+
+		CoalescingSession(S session, boolean isNew) {
+			this.session = session;
+			this.persistedLastAccessedTime = session.getLastAccessedTime();
+			this.dirty = isNew;
+		}
+
+		@Override
+		public String getId() {
+			return session.getId();
+		}
+
+		@Override
+		public String changeSessionId() {
+			dirty = true;
+			return session.changeSessionId();
+		}
+
+		@Override
+		public <T> T getAttribute(String attributeName) {
+			return session.getAttribute(attributeName);
+		}
+
+		@Override
+		public Set<String> getAttributeNames() {
+			return session.getAttributeNames();
+		}
+
+		@Override
+		public void setAttribute(String attributeName, Object attributeValue) {
+			dirty = true;
+			session.setAttribute(attributeName, attributeValue);
+		}
+
+		@Override
+		public void removeAttribute(String attributeName) {
+			dirty = true;
+			session.removeAttribute(attributeName);
+		}
+
+		@Override
+		public Instant getCreationTime() {
+			return session.getCreationTime();
+		}
+
+		@Override
+		public void setLastAccessedTime(Instant lastAccessedTime) {
+			session.setLastAccessedTime(lastAccessedTime);
+		}
+
+		@Override
+		public Instant getLastAccessedTime() {
+			return session.getLastAccessedTime();
+		}
+
+		@Override
+		public void setMaxInactiveInterval(Duration interval) {
+			dirty = true;
+			session.setMaxInactiveInterval(interval);
+		}
+
+		@Override
+		public Duration getMaxInactiveInterval() {
+			return session.getMaxInactiveInterval();
+		}
+
+		@Override
+		public boolean isExpired() {
+			return session.isExpired();
+		}
+	}
+
+	@Override
+	public CoalescingSession<S> createSession() {
+		return new CoalescingSession<>(delegate.createSession(), true);
+	}
+
+	@Override
+	public void save(CoalescingSession<S> session) {
+		if(!session.dirty
+				&& Duration.between(session.persistedLastAccessedTime, session.getLastAccessedTime()).compareTo(window) < 0) {
+			skipped.incrementAndGet();
+			return;
+		}
+		delegate.save(session.session);
+		session.persistedLastAccessedTime = session.getLastAccessedTime();
+		session.dirty = false;
+		saved.incrementAndGet();
+	}
+
+	@Override
+	public CoalescingSession<S> findById(String id) {
+		S session = delegate.findById(id);
+		return session == null ? null : new CoalescingSession<>(session, false);
+	}
+
+	@Override
+	public void deleteById(String id) {
+		delegate.deleteById(id);
+	}
+
+	@Override
+	public Map<String, CoalescingSession<S>> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+		Map<String, CoalescingSession<S>> sessionMap = new LinkedHashMap<>();
+		delegate.findByIndexNameAndIndexValue(indexName, indexValue)
+				.forEach((id, session) -> sessionMap.put(id, new CoalescingSession<>(session, false)));
+		return sessionMap;
+	}
+
+	// 저장/생략 건수
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<>();
+		metrics.put("windowSeconds", window.getSeconds());
+		metrics.put("saved", saved.get());
+		metrics.put("skipped", skipped.get());
+		return metrics;
+	}
+}
@@ -0,0 +1,182 @@
+package kg.groupc.project.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.util.ImageVariantProcessor.Variant;
+import lombok.extern.slf4j.Slf4j;
+
+// 이미지 저장소(내용 주소 방식) : 파일 이름 = 내용의 SHA-256 + 확장자
+// 같은 이미지를 여러 번 올리거나 크롤링해도 파일은 하나만 저장
+// 이름이 내용으로 정해지므로 파일은 바뀌지 않음(ETag = 해시, 브라우저는 다시 확인하지 않고 캐시 사용)
+// 원본은 <dir>/<키>, 크기별 변환은 <dir>/<크기>/<키>와 <dir>/<크기>/<키>.webp(ImageVariantProcessor), /images/** 로 서비스(ImageController)
+@Slf4j
+@Component
+public class ContentAddressedImageStore {
+
+	// 저장할 수 있는 확장자 : 이미지만, 그 외(html, svg, xml...)는 bin 으로 저장
+	// 응답 Content-Type 은 확장자로 정해지므로 문서 형식을 받으면 같은 출처에서 스크립트가 실행될 수 있음
+	private static final Pattern EXT = Pattern.compile("^(jpg|jpeg|png|gif|webp)$");
+	// 키 : 64자리 16진수 해시 + 확장자(경로 문자가 들어갈 수 없음)
+	private static final Pattern KEY = Pattern.compile("^[0-9a-f]{64}\\.(jpg|jpeg|png|gif|webp|bin)$");
+
+	// 서버를 여러 대 두면 모든 서버가 같은 폴더(공유 저장소 마운트)를 써야 함(다른 서버에 올린 이미지가 404)
+	@Value("${image.store.dir:image-store}")
+	String dir = "image-store";
+
+	private Path root;
+
+	// 지표
+	private final AtomicLong stored = new AtomicLong();
+	private final AtomicLong deduplicated = new AtomicLong();
+	private final AtomicLong bytesStored = new AtomicLong();
+	private final AtomicLong bytesDeduplicated = new AtomicLong();
+
+	// 쓸 수 없는 폴더면 시작하지 않음, 상대 경로면 서버별 폴더이므로 경고
+	@PostConstruct
+	public void init() throws IOException {
+		Path path = Paths.get(dir);
+		root = path.toAbsolutePath().normalize();
+		Files.createDirectories(root);
+		if(!Files.isWritable(root)) {
+			throw new IllegalStateException("image.store.dir is not writable : " + root);
+		}
+		if(!path.isAbsolute()) {
+			log.warn("image.store.dir is a relative path ({}), images are stored per server; use a shared absolute path when running several servers", root);
+		}
+	}
+
+	public static boolean isKey(String name) {
+		return name != null && KEY.matcher(name).matches();
+	}
+
+	// 저장 후 키 반환(이미 있는 내용이면 저장하지 않고 같은 키)
+	// 확장자는 소문자로(jpg, png...), 이미지 확장자가 아니면 bin
+	public String store(InputStream input, String ext) throws IOException {
+		String normalizedExt = ext == null ? "" : ext.toLowerCase(Locale.ROOT);
+		if(!EXT.matcher(normalizedExt).matches()) {
+			normalizedExt = "bin";
+		}
+		// 임시 파일로 받으면서 해시 계산(메모리에 전부 올리지 않음)
+		Path temp = Files.createTempFile(root, ".upload", ".tmp");
+		try {
+			MessageDigest digest = sha256();
+			long size;
+			try(InputStream in = new DigestInputStream(input, digest);
+					OutputStream out = Files.newOutputStream(temp)) {
+				size = copy(in, out);
+			}
+			String key = toHex(digest.digest()) + "." + normalizedExt;
+			Path target = root.resolve(key);
+			if(Files.exists(target)) {
+				deduplicated.incrementAndGet();
+				bytesDeduplicated.addAndGet(size);
+				return key;
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+			}catch(AtomicMoveNotSupportedException e) {
+				Files.move(temp, target);
+			}catch(FileAlreadyExistsException e) {
+				// 같은 내용이 동시에 저장됨
+				deduplicated.incrementAndGet();
+				bytesDeduplicated.addAndGet(size);
+				return key;
+			}
+			stored.incrementAndGet();
+			bytesStored.addAndGet(size);
+			return key;
+		}finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	// 원본 파일, 키가 올바르지 않거나 없으면 null
+	public Path resolve(String key) {
+		if(!isKey(key)) {
+			return null;
+		}
+		Path path = root.resolve(key);
+		return Files.isRegularFile(path) ? path : null;
+	}
+
+	// 크기별 변환 파일, 아직 없으면 null
+	public Path resolve(Variant variant, String key) {
+		if(!isKey(key)) {
+			return null;
+		}
+		Path path = root.resolve(variant.getDir()).resolve(key);
+		return Files.isRegularFile(path) ? path : null;
+	}
+
+	// 크기별 변환의 WebP 사본(<dir>/<크기>/<키>.webp, WebP 쓰기 플러그인이 있을 때만 생성), 없으면 null
+	public Path resolveWebp(Variant variant, String key) {
+		if(!isKey(key)) {
+			return null;
+		}
+		Path path = root.resolve(variant.getDir()).resolve(key + ".webp");
+		return Files.isRegularFile(path) ? path : null;
+	}
+
+	public Path getRoot() {
+		return root;
+	}
+
+	// 저장/중복 건수와 크기(바이트)
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<>();
+		metrics.put("dir", root.toString());
+		metrics.put("stored", stored.get());
+		metrics.put("deduplicated", deduplicated.get());
+		metrics.put("bytesStored", bytesStored.get());
+		metrics.put("bytesDeduplicated", bytesDeduplicated.get());
+		return metrics;
+	}
+
+	private static long copy(InputStream in, OutputStream out) throws IOException {
+		byte[] buffer = new byte[8192];
+		long size = 0;
+		int read;
+		while((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+			size += read;
+		}
+		return size;
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}catch(NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for(byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		return sb.toString();
+	}
+}
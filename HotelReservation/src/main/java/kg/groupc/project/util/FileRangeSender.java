@@ -0,0 +1,181 @@
+package kg.groupc.project.util;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+// 파일 응답(ETag/If-None-Match, Range/If-Range, HEAD)
+// Tomcat sendfile 을 쓸 수 있으면 요청 속성으로 넘겨서 커널이 직접 전송(본문이 힙을 거치지 않음)
+// 아니면 FileChannel.transferTo 로 응답 스트림에 전송 : 응답 스트림은 파일 채널이 아니므로
+// JDK 임시 버퍼와 힙 byte[] 를 거쳐 복사됨(sendfile 이 꺼진 커넥터, HTTPS, 작은 파일 등), 건수는 getMetrics 로 확인
+// Range 는 한 구간만 지원(여러 구간이면 전체 응답, Range 무시는 HTTP 규격상 허용)
+public class FileRangeSender {
+
+	static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	// 만족할 수 없는 Range(416)
+	static final long[] UNSATISFIABLE = new long[0];
+
+	// 지표 : 본문 응답 중 sendfile/스트림 복사 건수와 바이트
+	private static final AtomicLong sendfileCount = new AtomicLong();
+	private static final AtomicLong sendfileBytes = new AtomicLong();
+	private static final AtomicLong streamCount = new AtomicLong();
+	private static final AtomicLong streamBytes = new AtomicLong();
+
+	private FileRangeSender() {
+	}
+
+	// etag 는 따옴표 없는 값(강한 ETag 로 보냄)
+	public static void send(HttpServletRequest req, HttpServletResponse res, Path file, String etag, String cacheControl)
+			throws IOException {
+		long length;
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			length = channel.size();
+		}
+		String quotedEtag = "\"" + etag + "\"";
+		res.setHeader(HttpHeaders.ETAG, quotedEtag);
+		res.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+		res.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+		if(matches(req.getHeader(HttpHeaders.IF_NONE_MATCH), quotedEtag)) {
+			res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+
+		long[] range = null;
+		String ifRange = req.getHeader(HttpHeaders.IF_RANGE);
+		if(ifRange == null || ifRange.trim().equals(quotedEtag)) {
+			range = parseRange(req.getHeader(HttpHeaders.RANGE), length);
+		}
+		if(range == UNSATISFIABLE) {
+			res.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+			res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+			return;
+		}
+		long start = 0;
+		long end = length - 1;
+		if(range != null) {
+			start = range[0];
+			end = range[1];
+			res.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+			res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+		}else {
+			res.setStatus(HttpServletResponse.SC_OK);
+		}
+		long count = end - start + 1;
+		res.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+				.orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+		res.setContentLengthLong(count);
+		if("HEAD".equals(req.getMethod()) || count == 0) {
+			return;
+		}
+
+		if(Boolean.TRUE.equals(req.getAttribute(SENDFILE_SUPPORT))) {
+			// 응답 본문 없이 반환하면 Tomcat 이 sendfile 로 전송(end 는 포함하지 않는 위치)
+			req.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+			req.setAttribute(SENDFILE_START, start);
+			req.setAttribute(SENDFILE_END, end + 1);
+			sendfileCount.incrementAndGet();
+			sendfileBytes.addAndGet(count);
+			return;
+		}
+		streamCount.incrementAndGet();
+		streamBytes.addAndGet(count);
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			WritableByteChannel out = Channels.newChannel(res.getOutputStream());
+			long position = start;
+			while(position <= end) {
+				long sent = channel.transferTo(position, end + 1 - position, out);
+				if(sent <= 0) {
+					break;
+				}
+				position += sent;
+			}
+		}
+	}
+
+	// sendfile/스트림 복사 건수와 바이트, 스트림 복사 비율(건수 기준)
+	public static Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<>();
+		long sendfile = sendfileCount.get();
+		long stream = streamCount.get();
+		metrics.put("sendfile", sendfile);
+		metrics.put("sendfileBytes", sendfileBytes.get());
+		metrics.put("stream", stream);
+		metrics.put("streamBytes", streamBytes.get());
+		metrics.put("streamRatio", sendfile + stream == 0 ? 0.0 : (double) stream / (sendfile + stream));
+		return metrics;
+	}
+
+	// If-None-Match(쉼표로 여러 개, W/ 약한 비교, *)
+	static boolean matches(String ifNoneMatch, String quotedEtag) {
+		if(ifNoneMatch == null) {
+			return false;
+		}
+		for(String tag : ifNoneMatch.split(",")) {
+			String value = tag.trim();
+			if(value.startsWith("W/")) {
+				value = value.substring(2);
+			}
+			if(value.equals("*") || value.equals(quotedEtag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// "bytes=a-b", "bytes=a-", "bytes=-n" -> {시작, 끝(포함)}
+	// Range 가 없거나 형식이 틀리거나 여러 구간이면 null(전체), 파일 범위를 벗어나면 UNSATISFIABLE
+	static long[] parseRange(String header, long length) {
+		if(header == null || !header.startsWith("bytes=")) {
+			return null;
+		}
+		String spec = header.substring("bytes=".length()).trim();
+		if(spec.contains(",")) {
+			return null;
+		}
+		int dash = spec.indexOf('-');
+		if(dash < 0) {
+			return null;
+		}
+		try {
+			String first = spec.substring(0, dash).trim();
+			String last = spec.substring(dash + 1).trim();
+			if(first.isEmpty()) {
+				// 마지막 n 바이트
+				long suffix = Long.parseLong(last);
+				if(suffix <= 0 || length == 0) {
+					return UNSATISFIABLE;
+				}
+				return new long[] {Math.max(0, length - suffix), length - 1};
+			}
+			long start = Long.parseLong(first);
+			long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+			if(start >= length) {
+				return UNSATISFIABLE;
+			}
+			if(end < start) {
+				return null;
+			}
+			return new long[] {start, end};
+		}catch(NumberFormatException e) {
+			return null;
+		}
+	}
+}
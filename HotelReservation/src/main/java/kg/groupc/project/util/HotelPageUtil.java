@@ -1,5 +1,8 @@
 package kg.groupc.project.util;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -28,6 +31,8 @@ public class HotelPageUtil {
 	private int startPage;//c:forEach안의 시작값
 	private int lastPage;//c:forEach안의 끝값
 	
+	private static final char CURSOR_SEPARATOR = '\u0001';
+	
 	public int pageButtonInitialize(int data, Pageable pageable) {
 		//첫 페이지가 0부터 시작하는 것에 대한 처리는 controller에서 해놓음
 		//data: 총 컬럼개수, Pageable : 현재 페이지 정보
@@ -83,4 +88,29 @@ public class HotelPageUtil {
 		}
 		return this.getMaxPage();
 	}
+	
+	//커서 = 마지막 행의 (정렬값, seq)를 URL에 쓸 수 있게 인코딩
+	public static String encodeCursor(String value, long seq) {
+		String raw = (value == null ? "" : value) + CURSOR_SEPARATOR + seq;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	//{정렬값, seq}, 커서가 없거나 잘못되었으면 null(첫 페이지)
+	public static String[] decodeCursor(String cursor) {
+		if(cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = raw.lastIndexOf(CURSOR_SEPARATOR);
+			if(index < 0) {
+				return null;
+			}
+			String seq = raw.substring(index + 1);
+			Long.parseLong(seq);
+			return new String[] {raw.substring(0, index), seq};
+		}catch(IllegalArgumentException e) {
+			return null;
+		}
+	}
 }
@@ -0,0 +1,398 @@
+package kg.groupc.project.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.entity.hotel.Hotel;
+import kg.groupc.project.repository.hotel.HotelRepository;
+
+// 호텔명/주소 검색용 메모리 n-gram 역색인
+// LIKE '%검색어%'는 인덱스를 못 타서 매번 전체 스캔이 되므로, 글자 1~3-gram으로 후보를 좁힌 뒤 contains로 확인함
+// 한글은 음절 단위(NFC)로 자르므로 "서울", "해운대" 같은 부분 검색도 그대로 동작함
+@Component
+public class HotelSearchIndex {
+
+	public enum Field { NAME, ADDRESS }
+
+	private static final int MAX_GRAM = 3;
+
+	@Autowired(required = false)
+	private HotelRepository<Hotel, Long> hotelRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// 문서(호텔) 목록, 배열 index = 문서 번호
+	private List<Doc> docs = new ArrayList<>();
+	// 호텔 seq -> 살아있는 문서 번호
+	private Map<Long, Integer> docIdMap = new HashMap<>();
+	// gram -> 문서 번호 목록(오름차순)
+	private Map<String, IntList> namePostings = new HashMap<>();
+	private Map<String, IntList> addressPostings = new HashMap<>();
+	private int deletedCount = 0;
+	private volatile boolean ready = false;
+
+	private static class Doc {
+		final long seq;
+		final String name;
+		final String address;
+		final String normName;
+		final String normAddress;
+		boolean deleted;
+
+		Doc(long seq, String name, String address) {
+			this.seq = seq;
+			this.name = name == null ? "" : name;
+			this.address = address == null ? "" : address;
+			this.normName = normalize(this.name);
+			this.normAddress = normalize(this.address);
+		}
+
+		String text(Field field) {
+			return field == Field.NAME ? normName : normAddress;
+		}
+
+		String original(Field field) {
+			return field == Field.NAME ? name : address;
+		}
+	}
+
+	// 문서 번호 목록(int 배열, boxing 없음)
+	private static class IntList {
+		int[] values = new int[4];
+		int size;
+
+		void add(int value) {
+			if(size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+	}
+
+	// 서버 시작 시 색인 생성
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() {
+		if(hotelRepository != null) {
+			rebuild(hotelRepository.findAll());
+		}
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	// 전체 재색인(status 1인 호텔만)
+	public void rebuild(List<Hotel> hotelList) {
+		List<Doc> newDocs = new ArrayList<>(hotelList.size());
+		for(Hotel hotel : hotelList) {
+			if(hotel.getStatus() != null && hotel.getStatus() == 1L) {
+				newDocs.add(new Doc(hotel.getSeq(), hotel.getName(), hotel.getAddress()));
+			}
+		}
+		lock.writeLock().lock();
+		try {
+			load(newDocs);
+			ready = true;
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 호텔 등록/수정 반영
+	public void put(Hotel hotel) {
+		put(hotel.getSeq(), hotel.getName(), hotel.getAddress(), hotel.getStatus());
+	}
+
+	// 호텔 등록/수정 반영(엔티티 대신 값으로, 커밋 후 반영용)
+	public void put(Long seq, String name, String address, Long status) {
+		if(seq == null) {
+			return;
+		}
+		if(status == null || status != 1L) {
+			remove(seq);
+			return;
+		}
+		Doc doc = new Doc(seq, name, address);
+		lock.writeLock().lock();
+		try {
+			Integer docId = docIdMap.get(doc.seq);
+			if(docId != null) {
+				Doc old = docs.get(docId);
+				if(old.name.equals(doc.name) && old.address.equals(doc.address)) {
+					return;//검색 필드 변경 없음
+				}
+				delete(docId);
+			}
+			append(doc);
+			compactIfNeeded();
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 호텔 삭제/폐점 반영
+	public void remove(Long seq) {
+		lock.writeLock().lock();
+		try {
+			Integer docId = docIdMap.remove(seq);
+			if(docId != null) {
+				delete(docId);
+				compactIfNeeded();
+			}
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return docIdMap.size();
+		}finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 검색 후 순위대로 정렬한 호텔 seq를 페이지 단위로 반환
+	// 순위 : 앞부분 일치 > 일치 위치가 앞쪽 > 필드가 짧은 것 > 가나다순 > seq
+	// 전체를 정렬하지 않고 (offset + size)개만 힙으로 골라냄
+	public Page<Long> search(Field field, String keyword, Pageable pageable) {
+		String word = normalize(keyword == null ? "" : keyword.trim());
+		int limit = (int) Math.min(Integer.MAX_VALUE - 1L, pageable.getOffset() + pageable.getPageSize());
+		Comparator<Hit> rank = rank();
+		int[] total = new int[1];
+		List<Hit> ranked;
+		lock.readLock().lock();
+		try {
+			ranked = collect(field, word, null, rank, limit, total);
+		}finally {
+			lock.readLock().unlock();
+		}
+		
+		int from = (int) Math.min(pageable.getOffset(), ranked.size());
+		return new PageImpl<>(toSeqList(ranked.subList(from, ranked.size())), pageable, total[0]);
+	}
+	
+	// 커서 다음/이전 limit개를 순위순으로 반환(페이지가 깊어져도 비용 동일)
+	// 커서는 마지막으로 본 호텔의 순위 값(cursorValue)과 seq : 그 호텔이 삭제/수정되었어도 순위 값으로 이어서 찾음
+	// 커서가 없거나 잘못되었으면 첫 페이지부터
+	public List<Long> searchCursor(Field field, String keyword, String cursorValue, Long cursorSeq, boolean backward, int limit) {
+		String word = normalize(keyword == null ? "" : keyword.trim());
+		Comparator<Hit> rank = rank();
+		Hit cursor = parseCursor(cursorValue, cursorSeq);
+		List<Hit> ranked;
+		lock.readLock().lock();
+		try {
+			if(cursor == null) {
+				ranked = backward ? new ArrayList<>() : collect(field, word, null, rank, limit, new int[1]);
+			}else {
+				Predicate<Hit> filter = backward ? hit -> rank.compare(hit, cursor) < 0 : hit -> rank.compare(hit, cursor) > 0;
+				ranked = collect(field, word, filter, backward ? rank.reversed() : rank, limit, new int[1]);
+				if(backward) {
+					Collections.reverse(ranked);
+				}
+			}
+		}finally {
+			lock.readLock().unlock();
+		}
+		return toSeqList(ranked);
+	}
+	
+	// 커서에 담을 순위 값 "일치 위치:길이:필드 값"(text = 목록에 표시한 호텔명/주소)
+	public static String cursorValue(String keyword, String text) {
+		String original = text == null ? "" : text;
+		String normalized = normalize(original);
+		int pos = normalized.indexOf(normalize(keyword == null ? "" : keyword.trim()));
+		return pos + ":" + normalized.length() + ":" + original;
+	}
+	
+	// 순위 값 + seq -> 비교용 Hit, 형식이 틀리면 null
+	private static Hit parseCursor(String cursorValue, Long cursorSeq) {
+		if(cursorValue == null || cursorSeq == null) {
+			return null;
+		}
+		String[] parts = cursorValue.split(":", 3);
+		if(parts.length < 3) {
+			return null;
+		}
+		try {
+			int pos = Integer.parseInt(parts[0]);
+			int length = Integer.parseInt(parts[1]);
+			return pos < 0 ? null : new Hit(cursorSeq, parts[2], pos, length);
+		}catch(NumberFormatException e) {
+			return null;
+		}
+	}
+	
+	private static Comparator<Hit> rank() {
+		return Comparator
+				.comparingInt((Hit hit) -> hit.pos == 0 ? 0 : 1)
+				.thenComparingInt(hit -> hit.pos)
+				.thenComparingInt(hit -> hit.length)
+				.thenComparing(hit -> hit.text)
+				.thenComparingLong(hit -> hit.seq);
+	}
+	
+	// 검색어에 맞는 문서 중 order 기준 앞쪽 limit개(정렬됨), total[0]에 filter 통과 건수, read lock 안에서 호출
+	private List<Hit> collect(Field field, String word, Predicate<Hit> filter, Comparator<Hit> order, int limit, int[] total) {
+		PriorityQueue<Hit> top = new PriorityQueue<>(order.reversed());
+		if(word.isEmpty()) {
+			for(Doc doc : docs) {
+				if(!doc.deleted) {
+					offer(top, new Hit(doc, field, 0), filter, limit, order, total);
+				}
+			}
+		}else {
+			IntList candidates = candidates(field, word);
+			if(candidates != null) {
+				for(int i = 0; i < candidates.size; i++) {
+					Doc doc = docs.get(candidates.values[i]);
+					if(doc.deleted) {
+						continue;
+					}
+					int pos = doc.text(field).indexOf(word);
+					if(pos >= 0) {
+						offer(top, new Hit(doc, field, pos), filter, limit, order, total);
+					}
+				}
+			}
+		}
+		List<Hit> ranked = new ArrayList<>(top);
+		ranked.sort(order);
+		return ranked;
+	}
+	
+	private static List<Long> toSeqList(List<Hit> hits) {
+		List<Long> seqList = new ArrayList<>(hits.size());
+		for(Hit hit : hits) {
+			seqList.add(hit.seq);
+		}
+		return seqList;
+	}
+	
+	// 순위 비교 값(검색 결과 문서 또는 커서)
+	private static class Hit {
+		final long seq;
+		final String text;
+		final int pos;
+		final int length;
+		
+		Hit(Doc doc, Field field, int pos) {
+			this(doc.seq, doc.original(field), pos, doc.text(field).length());
+		}
+		
+		Hit(long seq, String text, int pos, int length) {
+			this.seq = seq;
+			this.text = text;
+			this.pos = pos;
+			this.length = length;
+		}
+	}
+	
+	private static void offer(PriorityQueue<Hit> top, Hit hit, Predicate<Hit> filter, int limit, Comparator<Hit> rank, int[] total) {
+		if(filter != null && !filter.test(hit)) {
+			return;
+		}
+		total[0]++;
+		if(top.size() < limit) {
+			top.add(hit);
+		}else if(limit > 0 && rank.compare(hit, top.peek()) < 0) {
+			top.poll();
+			top.add(hit);
+		}
+	}
+
+	// 검색어의 gram 중 문서 수가 가장 적은 목록을 후보로 사용(null이면 결과 없음)
+	private IntList candidates(Field field, String word) {
+		Map<String, IntList> postings = field == Field.NAME ? namePostings : addressPostings;
+		int n = Math.min(word.length(), MAX_GRAM);
+		IntList best = null;
+		for(int i = 0; i + n <= word.length(); i++) {
+			IntList list = postings.get(word.substring(i, i + n));
+			if(list == null) {
+				return null;
+			}
+			if(best == null || list.size < best.size) {
+				best = list;
+			}
+		}
+		return best;
+	}
+
+	private void load(List<Doc> newDocs) {
+		docs = new ArrayList<>(newDocs.size());
+		docIdMap = new HashMap<>(newDocs.size() * 2);
+		namePostings = new HashMap<>();
+		addressPostings = new HashMap<>();
+		deletedCount = 0;
+		for(Doc doc : newDocs) {
+			append(doc);
+		}
+	}
+
+	private void append(Doc doc) {
+		int docId = docs.size();
+		docs.add(doc);
+		docIdMap.put(doc.seq, docId);
+		index(namePostings, doc.normName, docId);
+		index(addressPostings, doc.normAddress, docId);
+	}
+
+	private void index(Map<String, IntList> postings, String text, int docId) {
+		Set<String> grams = new HashSet<>();
+		for(int n = 1; n <= MAX_GRAM; n++) {
+			for(int i = 0; i + n <= text.length(); i++) {
+				grams.add(text.substring(i, i + n));
+			}
+		}
+		for(String gram : grams) {
+			postings.computeIfAbsent(gram, k -> new IntList()).add(docId);
+		}
+	}
+
+	private void delete(int docId) {
+		Doc doc = docs.get(docId);
+		if(!doc.deleted) {
+			doc.deleted = true;
+			deletedCount++;
+		}
+	}
+
+	// 삭제 표시된 문서가 절반을 넘으면 살아있는 문서로 다시 색인
+	private void compactIfNeeded() {
+		if(deletedCount > 1000 && deletedCount > docs.size() / 2) {
+			List<Doc> live = new ArrayList<>(docs.size() - deletedCount);
+			for(Doc doc : docs) {
+				if(!doc.deleted) {
+					live.add(doc);
+				}
+			}
+			load(live);
+		}
+	}
+
+	// NFC 정규화(자모 분리 입력 대응) + 소문자(DB 검색도 lower(컬럼) LIKE lower(검색어) 로 대소문자 무시)
+	static String normalize(String text) {
+		return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,35 @@
+package kg.groupc.project.util;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.entity.hotel.Hotel;
+
+// Hotel 저장/수정/삭제 시 검색 색인(HotelSearchIndex) 갱신
+@Component
+public class HotelSearchIndexListener extends AfterCommitListener<HotelSearchIndex> {
+	
+	public HotelSearchIndexListener(ObjectProvider<HotelSearchIndex> hotelSearchIndex) {
+		super(hotelSearchIndex);
+	}
+	
+	@PostPersist
+	@PostUpdate
+	public void onSave(Hotel hotel) {
+		Long seq = hotel.getSeq();
+		String name = hotel.getName();
+		String address = hotel.getAddress();
+		Long status = hotel.getStatus();
+		afterCommit(index -> index.put(seq, name, address, status));
+	}
+	
+	@PostRemove
+	public void onRemove(Hotel hotel) {
+		Long seq = hotel.getSeq();
+		afterCommit(index -> index.remove(seq));
+	}
+}
@@ -0,0 +1,18 @@
+package kg.groupc.project.util;
+
+// 이미지 주소(JSP 함수 images:url, WEB-INF/tld/images.tld)
+// 이미지 저장소 키면 /images/[크기/]<키>, 예전 파일명이면 /resources/img/<폴더>/[크기/]<파일명>
+public class ImageUrls {
+
+	private ImageUrls() {
+	}
+
+	// variant 가 비어 있으면 원본
+	public static String url(String dir, String img, String variant) {
+		String variantPath = variant == null || variant.isEmpty() ? "" : variant + "/";
+		if(ContentAddressedImageStore.isKey(img)) {
+			return "/images/" + variantPath + img;
+		}
+		return "/resources/img/" + dir + "/" + variantPath + (img == null ? "" : img);
+	}
+}
@@ -0,0 +1,240 @@
+package kg.groupc.project.util;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 업로드 이미지 크기별 변환(썸네일/목록/상세)
+// 업로드 요청은 원본만 저장하고 바로 반환, 변환은 제한된 스레드 풀에서 따로 실행
+// 변환 결과는 원본 폴더 아래 <크기>/<원본 파일명> 으로 원본과 같은 형식(JPEG 는 품질 jpegQuality)으로 저장
+// WebP 쓰기가 가능한 ImageIO 플러그인이 있으면 <크기>/<원본 파일명>.webp 도 저장(기본 JDK 에는 없음), 받을 수 있는 브라우저에만 보냄(ImageController)
+// 대기열이 가득 차면 변환을 건너뜀(화면은 원본으로 대체, 관리자 일괄 변환으로 다시 생성)
+@Slf4j
+@Component
+public class ImageVariantProcessor {
+
+	// 크기별 최대 가로 길이(px), 원본이 더 작으면 늘리지 않음
+	public enum Variant {
+		THUMB("thumb", 160),
+		LIST("list", 480),
+		DETAIL("detail", 1280);
+
+		private final String dir;
+		private final int maxWidth;
+
+		Variant(String dir, int maxWidth) {
+			this.dir = dir;
+			this.maxWidth = maxWidth;
+		}
+
+		public String getDir() {
+			return dir;
+		}
+
+		public int getMaxWidth() {
+			return maxWidth;
+		}
+	}
+
+	@Value("${image.variant.threads:2}")
+	int threadCount = 2;
+	@Value("${image.variant.queue-capacity:100}")
+	int queueCapacity = 100;
+	@Value("${image.variant.jpeg-quality:0.8}")
+	float jpegQuality = 0.8f;
+
+	private ThreadPoolExecutor executor;
+
+	// 지표(나노초)
+	private final AtomicLong processed = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong processTimeTotal = new AtomicLong();
+	private final AtomicLong bytesIn = new AtomicLong();
+	private final AtomicLong bytesOut = new AtomicLong();
+
+	@PostConstruct
+	public void start() {
+		executor = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "image-variant");
+					thread.setDaemon(true);
+					thread.setPriority(Thread.MIN_PRIORITY);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@PreDestroy
+	public void stop() {
+		if(executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	// 변환 예약, 대기열이 가득 찼으면 false
+	public boolean submit(File original) {
+		try {
+			executor.execute(() -> process(original));
+			return true;
+		}catch(RejectedExecutionException e) {
+			rejected.incrementAndGet();
+			return false;
+		}
+	}
+
+	// 변환 결과가 없을 때만 예약(같은 이미지를 다시 올린 경우 등), 예약했으면 true
+	public boolean submitIfMissing(File original) {
+		return !variantFile(original, Variant.DETAIL).exists() && submit(original);
+	}
+
+	// 폴더의 원본 중 변환 결과가 없는 것만 예약, 예약한 건수 반환
+	public int backfill(File dir) {
+		File[] files = dir.listFiles(File::isFile);
+		if(files == null) {
+			return 0;
+		}
+		int count = 0;
+		for(File file : files) {
+			if(submitIfMissing(file)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// 변환 결과 파일(<원본 폴더>/<크기>/<원본 파일명>)
+	public static File variantFile(File original, Variant variant) {
+		return new File(new File(original.getParentFile(), variant.getDir()), original.getName());
+	}
+
+	// 원본 하나를 모든 크기로 변환(이미지가 아니면 건너뜀)
+	void process(File original) {
+		long started = System.nanoTime();
+		try {
+			String format = formatName(original);
+			BufferedImage image = format == null ? null : ImageIO.read(original);
+			if(image == null) {
+				return;
+			}
+			bytesIn.addAndGet(original.length());
+			for(Variant variant : Variant.values()) {
+				BufferedImage resized = resize(image, variant.getMaxWidth(), !image.getColorModel().hasAlpha());
+				File target = variantFile(original, variant);
+				target.getParentFile().mkdirs();
+				write(resized, format, target);
+				bytesOut.addAndGet(target.length());
+				if(ImageIO.getImageWritersByFormatName("webp").hasNext()) {
+					write(resized, "webp", new File(target.getPath() + ".webp"));
+				}
+			}
+			processed.incrementAndGet();
+		}catch(IOException | RuntimeException e) {
+			failed.incrementAndGet();
+			log.warn("image variant failed : {}", original, e);
+		}finally {
+			processTimeTotal.addAndGet(System.nanoTime() - started);
+		}
+	}
+
+	// 원본 형식(jpeg/png/gif/bmp...), 읽을 수 없으면 null
+	private static String formatName(File file) throws IOException {
+		try(ImageInputStream input = ImageIO.createImageInputStream(file)) {
+			if(input == null) {
+				return null;
+			}
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+			return readers.hasNext() ? readers.next().getFormatName().toLowerCase(Locale.ROOT) : null;
+		}
+	}
+
+	// 가로 maxWidth 이하로 축소(비율 유지), 한 번에 절반 이하로 줄이지 않아 계단 현상을 줄임
+	static BufferedImage resize(BufferedImage image, int maxWidth, boolean opaque) {
+		int type = opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int targetWidth = Math.min(width, maxWidth);
+		int targetHeight = Math.max(1, (int) Math.round((double) height * targetWidth / width));
+		BufferedImage current = image;
+		do {
+			width = Math.max(targetWidth, width / 2);
+			height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+			BufferedImage next = new BufferedImage(width, height, type);
+			Graphics2D g = next.createGraphics();
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			g.drawImage(current, 0, 0, width, height, null);
+			g.dispose();
+			current = next;
+		}while(width > targetWidth);
+		return current;
+	}
+
+	// 임시 파일에 쓴 뒤 이름 변경(쓰는 중인 파일이 서비스되지 않도록)
+	private void write(BufferedImage image, String format, File target) throws IOException {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+		if(!writers.hasNext()) {
+			return;
+		}
+		ImageWriter writer = writers.next();
+		File temp = new File(target.getParentFile(), "." + target.getName() + ".tmp");
+		try(ImageOutputStream output = ImageIO.createImageOutputStream(temp)) {
+			writer.setOutput(output);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if("jpeg".equals(format) && param.canWriteCompressed()) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(jpegQuality);
+			}
+			writer.write(null, new IIOImage(image, null, null), param);
+		}finally {
+			writer.dispose();
+		}
+		if(!temp.renameTo(target)) {
+			target.delete();
+			if(!temp.renameTo(target)) {
+				temp.delete();
+				throw new IOException("rename failed : " + target);
+			}
+		}
+	}
+
+	// 대기/처리/실패/거절 건수, 평균 변환 시간(밀리초), 원본/변환 결과 합계 크기(바이트)
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<>();
+		long count = Math.max(1, processed.get() + failed.get());
+		metrics.put("queued", executor == null ? 0 : executor.getQueue().size());
+		metrics.put("processed", processed.get());
+		metrics.put("failed", failed.get());
+		metrics.put("rejected", rejected.get());
+		metrics.put("processTimeAvgMillis", processTimeTotal.get() / count / 1_000_000.0);
+		metrics.put("bytesIn", bytesIn.get());
+		metrics.put("bytesOut", bytesOut.get());
+		metrics.put("webp", ImageIO.getImageWritersByFormatName("webp").hasNext());
+		return metrics;
+	}
+}
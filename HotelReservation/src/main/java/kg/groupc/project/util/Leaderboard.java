@@ -0,0 +1,163 @@
+package kg.groupc.project.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import lombok.Getter;
+
+// 순위표(메모리) : 평점 순, 즐겨찾기 수 순 상위 K 개
+// 평점은 베이즈 평균 (C * m + 평점 합계) / (C + 리뷰 수) : 리뷰가 적으면 전체 평균 m 쪽으로 당겨짐(C = priorWeight)
+// 리뷰/즐겨찾기 저장 때마다 해당 항목만 다시 넣고(O(log N)), 상위 K 개는 정렬된 집합의 앞에서 읽음
+// m 은 reload(DB 재집계) 때만 바꿈 : m 이 바뀌면 모든 항목의 평점이 바뀌므로 쓸 때마다 바꾸지 않음
+public class Leaderboard {
+
+	@Getter
+	public static class Entry {
+		private final Long seq;
+		private final String name;
+		private final long reviewCount;
+		private final long scoreSum;
+		private final long favoriteCount;
+		private final double rating;
+
+		private Entry(Long seq, String name, long reviewCount, long scoreSum, long favoriteCount, double rating) {
+			this.seq = seq;
+			this.name = name;
+			this.reviewCount = reviewCount;
+			this.scoreSum = scoreSum;
+			this.favoriteCount = favoriteCount;
+			this.rating = rating;
+		}
+
+		// 단순 평균(리뷰가 없으면 0)
+		public double getAvg() {
+			return reviewCount == 0 ? 0.0 : (double) scoreSum / reviewCount;
+		}
+	}
+
+	// DB 재집계 한 줄
+	public static class Row {
+		final Long seq;
+		final String name;
+		final long reviewCount;
+		final long scoreSum;
+		final long favoriteCount;
+
+		public Row(Long seq, String name, long reviewCount, long scoreSum, long favoriteCount) {
+			this.seq = seq;
+			this.name = name;
+			this.reviewCount = reviewCount;
+			this.scoreSum = scoreSum;
+			this.favoriteCount = favoriteCount;
+		}
+	}
+
+	private static final Comparator<Entry> BY_RATING = Comparator.comparingDouble(Entry::getRating).reversed()
+			.thenComparing(Comparator.comparingLong(Entry::getReviewCount).reversed())
+			.thenComparing(Entry::getSeq);
+	private static final Comparator<Entry> BY_FAVORITE = Comparator.comparingLong(Entry::getFavoriteCount).reversed()
+			.thenComparing(Entry::getSeq);
+
+	private final double priorWeight;
+	private double priorMean;
+
+	private final Map<Long, Entry> entries = new HashMap<>();
+	// 리뷰가 있는 항목만
+	private final TreeSet<Entry> byRating = new TreeSet<>(BY_RATING);
+	// 즐겨찾기가 있는 항목만
+	private final TreeSet<Entry> byFavorite = new TreeSet<>(BY_FAVORITE);
+
+	public Leaderboard(double priorWeight) {
+		this.priorWeight = priorWeight;
+	}
+
+	// 전체 다시 만듦(전체 평균 m 도 다시 계산)
+	public synchronized void reload(List<Row> rows) {
+		long totalCount = 0;
+		long totalSum = 0;
+		for(Row row : rows) {
+			totalCount += row.reviewCount;
+			totalSum += row.scoreSum;
+		}
+		priorMean = totalCount == 0 ? 0.0 : (double) totalSum / totalCount;
+		entries.clear();
+		byRating.clear();
+		byFavorite.clear();
+		for(Row row : rows) {
+			put(row.seq, row.name, row.reviewCount, row.scoreSum, row.favoriteCount);
+		}
+	}
+
+	// 리뷰 추가
+	public synchronized void addScore(Long seq, String name, long score) {
+		Entry entry = remove(seq);
+		if(entry == null) {
+			put(seq, name, 1, score, 0);
+		}else {
+			put(seq, name == null ? entry.name : name, entry.reviewCount + 1, entry.scoreSum + score, entry.favoriteCount);
+		}
+	}
+
+	// 즐겨찾기 추가(delta = 1)/해제(delta = -1)
+	public synchronized void addFavorite(Long seq, String name, long delta) {
+		Entry entry = remove(seq);
+		if(entry == null) {
+			put(seq, name, 0, 0, Math.max(0, delta));
+		}else {
+			put(seq, name == null ? entry.name : name, entry.reviewCount, entry.scoreSum, Math.max(0, entry.favoriteCount + delta));
+		}
+	}
+
+	// 항목 삭제(호텔/맛집 삭제), 없으면 null
+	public synchronized Entry remove(Long seq) {
+		Entry entry = entries.remove(seq);
+		if(entry != null) {
+			byRating.remove(entry);
+			byFavorite.remove(entry);
+		}
+		return entry;
+	}
+
+	public synchronized List<Entry> topRated(int k) {
+		return first(byRating, k);
+	}
+
+	public synchronized List<Entry> mostFavorited(int k) {
+		return first(byFavorite, k);
+	}
+
+	public synchronized double getPriorMean() {
+		return priorMean;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private void put(Long seq, String name, long reviewCount, long scoreSum, long favoriteCount) {
+		double rating = (priorWeight * priorMean + scoreSum) / (priorWeight + reviewCount);
+		Entry entry = new Entry(seq, name, reviewCount, scoreSum, favoriteCount, rating);
+		entries.put(seq, entry);
+		if(reviewCount > 0) {
+			byRating.add(entry);
+		}
+		if(favoriteCount > 0) {
+			byFavorite.add(entry);
+		}
+	}
+
+	private static List<Entry> first(TreeSet<Entry> set, int k) {
+		List<Entry> list = new ArrayList<>(Math.min(k, set.size()));
+		for(Entry entry : set) {
+			if(list.size() >= k) {
+				break;
+			}
+			list.add(entry);
+		}
+		return list;
+	}
+}
@@ -0,0 +1,41 @@
+package kg.groupc.project.util;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.dto.restaurant.RestaurantDetailDto;
+
+// 맛집 상세 화면 캐시(메모리, 맛집 seq -> 맛집 + 메뉴 목록)
+// 메뉴/맛집 정보는 거의 바뀌지 않으므로 상세 화면마다 DB 를 읽지 않도록 함
+// 최대 maxSize 건(가장 오래 안 쓴 것부터 제거), 만료 시간 없이 변경될 때만 제거
+// 메뉴 등록/수정/삭제, 맛집 수정/삭제, 리뷰 작성(평점) 시 해당 맛집만 제거
+@Component
+public class RestaurantDetailCache {
+
+	private final BoundedCache<Long, RestaurantDetailDto> cache;
+
+	public RestaurantDetailCache(@Value("${restaurant.cache.max-size:1000}") int maxSize) {
+		this.cache = new BoundedCache<>(maxSize, 0);
+	}
+
+	// 상세 화면, 없는 맛집이면 null(없는 맛집은 캐시하지 않음)
+	public RestaurantDetailDto get(Long seq, Function<Long, RestaurantDetailDto> loader) {
+		return cache.get(seq, loader);
+	}
+
+	public void evict(Long seq) {
+		cache.evict(seq);
+	}
+
+	// 전체 제거(평점 재집계 등)
+	public void clear() {
+		cache.clear();
+	}
+
+	public Map<String, Object> getMetrics() {
+		return cache.getMetrics();
+	}
+}
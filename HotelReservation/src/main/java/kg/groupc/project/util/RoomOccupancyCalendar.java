@@ -0,0 +1,323 @@
+package kg.groupc.project.util;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.dto.hotel.BookingRangeDto;
+import kg.groupc.project.entity.hotel.Booking;
+import kg.groupc.project.entity.hotel.Room;
+import kg.groupc.project.repository.hotel.BookingRepository;
+import kg.groupc.project.repository.hotel.RoomRepository;
+
+// 방별 예약 점유 달력(메모리)
+// 오늘부터 HORIZON_DAYS 일 동안 1박 = 1비트, 방 하나에 long 6개(48바이트)
+// 날짜 선택 때마다 DB를 조회하지 않고 비트 연산으로 "이 기간이 비었는지", "이번 달 빈 날짜"를 확인
+// 달력 범위 밖의 날짜와 날짜별 재고로 관리하는 방(Room.stock > 1)은 null을 반환하므로 호출하는 쪽에서 DB로 확인
+@Component
+public class RoomOccupancyCalendar {
+
+	static final int WORDS = 6;
+	static final int HORIZON_DAYS = WORDS * 64;
+
+	// 방 1개당 메모리 : long[6](헤더 16 + 48) + HashMap 노드 32 + Long 키 16 + 테이블 슬롯 8
+	static final long BYTES_PER_ROOM = 16 + WORDS * 8 + 32 + 16 + 8;
+
+	@Autowired(required = false)
+	private BookingRepository<Booking, Long> bookingRepository;
+	@Autowired(required = false)
+	private RoomRepository<Room, Long> roomRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// 방 seq -> 점유 비트(비트 i = baseDay + i 일 밤), 예약이 없는 방은 없음
+	private Map<Long, long[]> rooms = new HashMap<>();
+	// 날짜별 재고로 관리하는 방 seq(달력에 표시하지 않음)
+	private Set<Long> inventoryRooms = new HashSet<>();
+	// 달력 시작일(epoch day), 날짜가 바뀌면 비트를 앞으로 당김
+	private volatile long baseDay;
+	// 적재된 범위의 끝(epoch day, 미포함), 이후 날짜는 모름
+	private long endDay;
+	private volatile boolean ready = false;
+
+	// 오늘 날짜(epoch day), 테스트에서 교체
+	LongSupplier today = () -> LocalDate.now().toEpochDay();
+
+	// 서버 시작 시 달력 생성
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() {
+		if(bookingRepository != null) {
+			reload();
+		}
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	// DB에서 다시 적재(조회 중 들어온 예약이 빠지지 않도록 write lock 안에서 조회)
+	public void reload() {
+		lock.writeLock().lock();
+		try {
+			if(roomRepository != null) {
+				inventoryRooms = new HashSet<>(roomRepository.findInventoryRoomSeqs());
+			}
+			rebuild(bookingRepository.findBookingRanges(Date.valueOf(LocalDate.ofEpochDay(today.getAsLong()))));
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 전체 재적재
+	public void rebuild(List<BookingRangeDto> rangeList) {
+		lock.writeLock().lock();
+		try {
+			baseDay = today.getAsLong();
+			endDay = baseDay + HORIZON_DAYS;
+			rooms = new HashMap<>();
+			for(BookingRangeDto range : rangeList) {
+				mark(range.getRoomSeq(), range.getReserveDate(), range.getReserveEndDate());
+			}
+			ready = true;
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 예약 추가 반영
+	public void add(Long roomSeq, Date checkin, Date checkout) {
+		roll();
+		lock.writeLock().lock();
+		try {
+			mark(roomSeq, checkin, checkout);
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 방 하나를 DB에서 다시 적재(예약 변경/삭제 시, 이전 기간을 알 수 없으므로)
+	public void refresh(Long roomSeq) {
+		if(bookingRepository == null || !ready) {
+			return;
+		}
+		roll();
+		lock.writeLock().lock();
+		try {
+			rooms.remove(roomSeq);
+			for(BookingRangeDto range : bookingRepository.findBookingRangesByRoom(roomSeq, Date.valueOf(LocalDate.ofEpochDay(baseDay)))) {
+				mark(range.getRoomSeq(), range.getReserveDate(), range.getReserveEndDate());
+			}
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 방 수(Room.stock) 변경 반영(RoomStockListener)
+	// 재고 방이 되면 달력에서 빼고(재고 장부로 확인), 단일 방이 되면 방의 예약을 다시 읽음
+	public void setInventoryRoom(Long roomSeq, boolean inventory) {
+		boolean changed;
+		lock.writeLock().lock();
+		try {
+			changed = inventory ? inventoryRooms.add(roomSeq) : inventoryRooms.remove(roomSeq);
+			if(changed && inventory) {
+				rooms.remove(roomSeq);
+			}
+		}finally {
+			lock.writeLock().unlock();
+		}
+		if(changed && !inventory) {
+			refresh(roomSeq);
+		}
+	}
+
+	// 날짜별 재고로 관리하는 방이면 true
+	public boolean isInventoryRoom(Long roomSeq) {
+		lock.readLock().lock();
+		try {
+			return inventoryRooms.contains(roomSeq);
+		}finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	// [checkin, checkout) 의 모든 밤이 비어 있으면 true, 달력 범위 밖이거나 준비 전이거나 재고 관리 방이면 null
+	public Boolean isFree(Long roomSeq, Date checkin, Date checkout) {
+		if(!ready || roomSeq == null || checkin == null || checkout == null || isInventoryRoom(roomSeq)) {
+			return null;
+		}
+		roll();
+		long from = checkin.toLocalDate().toEpochDay();
+		long to = checkout.toLocalDate().toEpochDay();
+		if(from >= to) {
+			return false;
+		}
+		lock.readLock().lock();
+		try {
+			if(from < baseDay || to > endDay) {
+				return null;
+			}
+			long[] words = rooms.get(roomSeq);
+			return words == null || !anySet(words, (int) (from - baseDay), (int) (to - baseDay));
+		}finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 해당 월의 빈 밤 목록(달력 범위 안의 날짜만), 준비 전이거나 재고 관리 방이면 null
+	public List<LocalDate> freeNights(Long roomSeq, YearMonth month) {
+		if(!ready || isInventoryRoom(roomSeq)) {
+			return null;
+		}
+		roll();
+		List<LocalDate> freeList = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			long from = Math.max(month.atDay(1).toEpochDay(), baseDay);
+			long to = Math.min(month.atEndOfMonth().toEpochDay() + 1, endDay);
+			long[] words = rooms.get(roomSeq);
+			for(long day = from; day < to; day++) {
+				int bit = (int) (day - baseDay);
+				if(words == null || (words[bit >>> 6] & (1L << bit)) == 0) {
+					freeList.add(LocalDate.ofEpochDay(day));
+				}
+			}
+		}finally {
+			lock.readLock().unlock();
+		}
+		return freeList;
+	}
+
+	// 예약이 있는 방 수
+	public int size() {
+		roll();
+		lock.readLock().lock();
+		try {
+			return rooms.size();
+		}finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 현재 사용 메모리 추정치(바이트)
+	public long footprintBytes() {
+		return size() * BYTES_PER_ROOM;
+	}
+
+	// 예약이 있는 방 수, 재고 관리 방 수, 달력 범위(일), 사용 메모리 추정치와 방 1만 개 기준 메모리(바이트)
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<>();
+		metrics.put("ready", ready);
+		metrics.put("rooms", size());
+		lock.readLock().lock();
+		try {
+			metrics.put("inventoryRooms", inventoryRooms.size());
+		}finally {
+			lock.readLock().unlock();
+		}
+		metrics.put("horizonDays", HORIZON_DAYS);
+		metrics.put("bytesPerRoom", BYTES_PER_ROOM);
+		metrics.put("footprintBytes", footprintBytes());
+		metrics.put("footprintPer10kRoomsBytes", 10_000 * BYTES_PER_ROOM);
+		return metrics;
+	}
+
+	// write lock 안에서 호출, 달력 범위만 표시
+	private void mark(Long roomSeq, Date checkin, Date checkout) {
+		long from = Math.max(checkin.toLocalDate().toEpochDay(), baseDay);
+		long to = Math.min(checkout.toLocalDate().toEpochDay(), endDay);
+		if(roomSeq == null || from >= to || inventoryRooms.contains(roomSeq)) {
+			return;
+		}
+		long[] words = rooms.computeIfAbsent(roomSeq, k -> new long[WORDS]);
+		setRange(words, (int) (from - baseDay), (int) (to - baseDay));
+	}
+
+	// 날짜가 바뀌었으면 지난 날을 버리고 비트를 앞으로 당김, 남은 범위가 절반 이하면 DB에서 다시 적재
+	private void roll() {
+		long now = today.getAsLong();
+		if(now <= baseDay) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			if(now <= baseDay) {
+				return;
+			}
+			int days = (int) Math.min(now - baseDay, HORIZON_DAYS);
+			for(long[] words : rooms.values()) {
+				shiftRight(words, days);
+			}
+			rooms.values().removeIf(RoomOccupancyCalendar::isEmpty);
+			baseDay = now;
+			if(bookingRepository != null && endDay - baseDay < HORIZON_DAYS / 2) {
+				reload();
+			}
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// [from, to) 비트 중 하나라도 1이면 true
+	static boolean anySet(long[] words, int from, int to) {
+		int last = (to - 1) >>> 6;
+		for(int i = from >>> 6; i <= last; i++) {
+			if((words[i] & mask(i, from, to)) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static void setRange(long[] words, int from, int to) {
+		int last = (to - 1) >>> 6;
+		for(int i = from >>> 6; i <= last; i++) {
+			words[i] |= mask(i, from, to);
+		}
+	}
+
+	// i번째 long 에서 [from, to) 에 해당하는 비트
+	private static long mask(int i, int from, int to) {
+		long mask = -1L;
+		if(i == from >>> 6) {
+			mask &= -1L << (from & 63);
+		}
+		if(i == (to - 1) >>> 6) {
+			mask &= -1L >>> (63 - ((to - 1) & 63));
+		}
+		return mask;
+	}
+
+	// 비트 전체를 days 만큼 앞(낮은 쪽)으로 이동
+	static void shiftRight(long[] words, int days) {
+		int wordShift = days >>> 6;
+		int bitShift = days & 63;
+		for(int i = 0; i < words.length; i++) {
+			int src = i + wordShift;
+			long low = src < words.length ? words[src] : 0L;
+			long high = src + 1 < words.length ? words[src + 1] : 0L;
+			words[i] = bitShift == 0 ? low : (low >>> bitShift) | (high << (64 - bitShift));
+		}
+	}
+
+	private static boolean isEmpty(long[] words) {
+		for(long word : words) {
+			if(word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,37 @@
+package kg.groupc.project.util;
+
+import java.sql.Date;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.entity.hotel.Booking;
+
+// Booking 저장/수정/삭제 시 점유 달력(RoomOccupancyCalendar) 갱신
+@Component
+public class RoomOccupancyListener extends AfterCommitListener<RoomOccupancyCalendar> {
+	
+	public RoomOccupancyListener(ObjectProvider<RoomOccupancyCalendar> roomOccupancyCalendar) {
+		super(roomOccupancyCalendar);
+	}
+	
+	@PostPersist
+	public void onPersist(Booking booking) {
+		Long roomSeq = booking.getRoom().getSeq();
+		Date checkin = booking.getReserveDate();
+		Date checkout = booking.getReserveEndDate();
+		afterCommit(calendar -> calendar.add(roomSeq, checkin, checkout));
+	}
+	
+	// 변경 전 기간을 알 수 없으므로 방 단위로 다시 읽음
+	@PostUpdate
+	@PostRemove
+	public void onChange(Booking booking) {
+		Long roomSeq = booking.getRoom().getSeq();
+		afterCommit(calendar -> calendar.refresh(roomSeq));
+	}
+}
@@ -0,0 +1,125 @@
+package kg.groupc.project.util;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.entity.hotel.Room;
+import kg.groupc.project.entity.hotel.RoomRate;
+import kg.groupc.project.repository.hotel.RoomRateRepository;
+import kg.groupc.project.repository.hotel.RoomRepository;
+
+// 방별 1박 요금 달력(메모리)
+// 처음 조회할 때 Room.price 와 요금 규칙(RoomRate)으로 오늘부터 DAYS 일의 누적 합계 배열을 만들어 두고
+// 견적은 배열 두 칸의 차이로 계산(숙박일 수와 상관없이 DB 조회 없음)
+// 요금 규칙이나 방 가격이 바뀌면 해당 방만 버리고 다음 조회 때 다시 만듦
+@Component
+public class RoomRateCalendar {
+	
+	static final int DAYS = 365;
+	
+	@Autowired(required = false)
+	private RoomRepository<Room, Long> roomRepository;
+	@Autowired(required = false)
+	private RoomRateRepository<RoomRate, Long> roomRateRepository;
+	
+	private final Map<Long, Rates> cache = new ConcurrentHashMap<>();
+	
+	// 오늘 날짜(epoch day), 테스트에서 교체
+	LongSupplier today = () -> LocalDate.now().toEpochDay();
+	
+	private static class Rates {
+		final long baseDay;
+		final long basePrice;
+		// 우선순위 낮은 순(기간 없는 규칙 -> 시즌 규칙, 각각 등록 순)
+		final List<RoomRate> rules;
+		// prefix[i] = baseDay ~ baseDay + i - 1 밤의 가격 합계
+		final long[] prefix = new long[DAYS + 1];
+		
+		Rates(long baseDay, long basePrice, List<RoomRate> rules) {
+			this.baseDay = baseDay;
+			this.basePrice = basePrice;
+			this.rules = rules;
+			for(int i = 0; i < DAYS; i++) {
+				prefix[i + 1] = prefix[i] + price(LocalDate.ofEpochDay(baseDay + i));
+			}
+		}
+		
+		long price(LocalDate night) {
+			for(int i = rules.size() - 1; i >= 0; i--) {
+				if(rules.get(i).matches(night)) {
+					return rules.get(i).getPrice();
+				}
+			}
+			return basePrice;
+		}
+	}
+	
+	// [checkin, checkout) 숙박 요금 합계, 없는 방이거나 기간이 잘못되면 null
+	// 달력 범위 밖의 날짜는 규칙으로 하루씩 계산
+	public Long quote(Long roomSeq, Date checkin, Date checkout) {
+		if(roomSeq == null || checkin == null || checkout == null || !checkin.before(checkout)) {
+			return null;
+		}
+		Rates rates = get(roomSeq);
+		if(rates == null) {
+			return null;
+		}
+		long from = checkin.toLocalDate().toEpochDay();
+		long to = checkout.toLocalDate().toEpochDay();
+		if(from >= rates.baseDay && to <= rates.baseDay + DAYS) {
+			return rates.prefix[(int) (to - rates.baseDay)] - rates.prefix[(int) (from - rates.baseDay)];
+		}
+		long total = 0;
+		for(long day = from; day < to; day++) {
+			total += rates.price(LocalDate.ofEpochDay(day));
+		}
+		return total;
+	}
+	
+	// 방의 요금 달력을 직접 등록
+	public void put(Long roomSeq, long basePrice, List<RoomRate> ruleList) {
+		cache.put(roomSeq, build(today.getAsLong(), basePrice, ruleList));
+	}
+	
+	// 방 가격/요금 규칙 변경 시 호출
+	public void evict(Long roomSeq) {
+		cache.remove(roomSeq);
+	}
+	
+	public int size() {
+		return cache.size();
+	}
+	
+	private Rates get(Long roomSeq) {
+		long now = today.getAsLong();
+		Rates rates = cache.get(roomSeq);
+		if(rates != null && rates.baseDay == now) {
+			return rates;
+		}
+		if(roomRepository == null) {
+			return rates;
+		}
+		Room room = roomRepository.findById(roomSeq).orElse(null);
+		if(room == null) {
+			return null;
+		}
+		rates = build(now, room.getPrice(), roomRateRepository.findAllByRoom_SeqOrderBySeq(roomSeq));
+		cache.put(roomSeq, rates);
+		return rates;
+	}
+	
+	private static Rates build(long baseDay, long basePrice, List<RoomRate> ruleList) {
+		List<RoomRate> rules = new ArrayList<>(ruleList);
+		rules.sort(Comparator.comparing(RoomRate::isSeason));//정렬이 안정적이므로 등록 순서 유지
+		return new Rates(baseDay, basePrice, rules);
+	}
+}
@@ -0,0 +1,35 @@
+package kg.groupc.project.util;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.entity.hotel.Room;
+import kg.groupc.project.entity.hotel.RoomRate;
+
+// Room(가격), RoomRate(요금 규칙) 변경 시 요금 달력(RoomRateCalendar)에서 해당 방 제거
+@Component
+public class RoomRateListener extends AfterCommitListener<RoomRateCalendar> {
+	
+	public RoomRateListener(ObjectProvider<RoomRateCalendar> roomRateCalendar) {
+		super(roomRateCalendar);
+	}
+	
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void onChange(Object entity) {
+		Long roomSeq;
+		if(entity instanceof Room) {
+			roomSeq = ((Room) entity).getSeq();
+		}else if(entity instanceof RoomRate) {
+			roomSeq = ((RoomRate) entity).getRoom().getSeq();
+		}else {
+			return;
+		}
+		afterCommit(calendar -> calendar.evict(roomSeq));
+	}
+}
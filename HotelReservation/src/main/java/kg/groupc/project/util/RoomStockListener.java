@@ -0,0 +1,26 @@
+package kg.groupc.project.util;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.entity.hotel.Room;
+
+// Room 저장/수정 시 점유 달력(RoomOccupancyCalendar)의 재고 방 목록 갱신(Room.stock > 1 이면 재고 방)
+@Component
+public class RoomStockListener extends AfterCommitListener<RoomOccupancyCalendar> {
+	
+	public RoomStockListener(ObjectProvider<RoomOccupancyCalendar> roomOccupancyCalendar) {
+		super(roomOccupancyCalendar);
+	}
+	
+	@PostPersist
+	@PostUpdate
+	public void onSave(Room room) {
+		Long roomSeq = room.getSeq();
+		boolean inventory = room.getStock() != null && room.getStock() > 1;
+		afterCommit(calendar -> calendar.setInventoryRoom(roomSeq, inventory));
+	}
+}
@@ -0,0 +1,60 @@
+package kg.groupc.project.util;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.Wildcard;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+
+import kg.groupc.project.entity.QScoreSummary;
+
+// 리뷰 평점 집계(ScoreSummary) 컬럼을 UPDATE 한 번으로 누적하기 위한 유틸
+// 읽고 더해서 저장하지 않고 DB에서 col = col + n 으로 더하므로 동시에 리뷰가 들어와도 값이 유실되지 않음
+public class ScoreSummaryUtil {
+	
+	public static final long MIN_SCORE = 0L;
+	public static final long MAX_SCORE = 5L;
+	
+	public static void checkScore(Long score) {
+		if(score == null || score < MIN_SCORE || score > MAX_SCORE) {
+			throw new IllegalArgumentException("score : " + score);
+		}
+	}
+	
+	// 평점에 해당하는 히스토그램 컬럼
+	public static NumberPath<Long> scoreColumn(QScoreSummary summary, long score) {
+		switch((int) score) {
+		case 0: return summary.score0;
+		case 1: return summary.score1;
+		case 2: return summary.score2;
+		case 3: return summary.score3;
+		case 4: return summary.score4;
+		case 5: return summary.score5;
+		default: throw new IllegalArgumentException("score : " + score);
+		}
+	}
+	
+	// 리뷰 1건 추가분을 update 절에 세팅
+	public static JPAUpdateClause addScore(JPAUpdateClause update, QScoreSummary summary, long score) {
+		NumberPath<Long> column = scoreColumn(summary, score);
+		return update
+				.set(summary.reviewCount, summary.reviewCount.add(1L))
+				.set(summary.scoreSum, summary.scoreSum.add(score))
+				.set(column, column.add(1L));
+	}
+	
+	// 재집계 : 모든 집계 컬럼을 리뷰 테이블에서 다시 센 값(서브쿼리)으로 update 절에 세팅
+	// 읽어서 저장하지 않고 UPDATE 한 번으로 바꾸므로 재집계 중에 커밋된 리뷰 누적이 덮어써지지 않음
+	// owner : 리뷰가 UPDATE 대상 행(호텔/맛집)에 속하는 조건
+	public static JPAUpdateClause recompute(JPAUpdateClause update, QScoreSummary summary,
+			EntityPath<?> review, NumberPath<Long> reviewScore, Predicate owner) {
+		update.set(summary.reviewCount, JPAExpressions.select(Wildcard.count).from(review).where(owner))
+				.set(summary.scoreSum, JPAExpressions.select(reviewScore.sum().coalesce(0L)).from(review).where(owner));
+		for(long score = MIN_SCORE; score <= MAX_SCORE; score++) {
+			update.set(scoreColumn(summary, score),
+					JPAExpressions.select(Wildcard.count).from(review).where(owner, reviewScore.eq(score)));
+		}
+		return update;
+	}
+}
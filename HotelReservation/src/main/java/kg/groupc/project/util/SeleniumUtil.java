@@ -1,13 +1,13 @@
 package kg.groupc.project.util;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.net.URLConnection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -29,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 public class SeleniumUtil {
 	private final HotelRepository<Hotel, Long> hotelRepository;
 	private final RoomRepository<Room, Long> roomRepository;
+	private final ContentAddressedImageStore imageStore;
 	
 	@RequestMapping("/craw")
 	public void crawling() {
@@ -122,9 +123,8 @@ public class SeleniumUtil {
 					hotel.setStatus(1L);
 					hotelRepository.save(hotel);
 										
-					hotel.setImg(hotel.getSeq()+".jpg");
-					String filePath = "src\\main\\webapp\\resources\\img\\hotel\\" + hotel.getSeq() + ".jpg";
-					FileUtils.copyURLToFile(fileUrl, new File(filePath));
+					// 이미지 저장소(같은 이미지는 한 번만 저장)
+					hotel.setImg(download(fileUrl));
 					hotelRepository.save(hotel);
 					
 					for(int j=0;j<roomName.size();j++) {
@@ -153,10 +153,8 @@ public class SeleniumUtil {
 						
 						roomRepository.save(room);
 						
-						room.setImg(room.getSeq()+".jpg");
 						URL rfileUrl = new URL(driver3.findElement(By.id("0")).getAttribute("src"));
-						String rfilePath = "src\\main\\webapp\\resources\\img\\room\\" + room.getSeq() + ".jpg";
-						FileUtils.copyURLToFile(rfileUrl, new File(rfilePath));
+						room.setImg(download(rfileUrl));
 						roomRepository.save(room);
 					}
 				} catch (InterruptedException e) {
@@ -173,4 +171,14 @@ public class SeleniumUtil {
 			driver3.close();
 		}
 	}
-}
\ No newline at end of file
+	
+	// 이미지 내려받아 저장소에 저장, 키 반환
+	private String download(URL url) throws IOException {
+		URLConnection connection = url.openConnection();
+		connection.setConnectTimeout(10000);
+		connection.setReadTimeout(30000);
+		try(InputStream input = connection.getInputStream()) {
+			return imageStore.store(input, "jpg");
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package kg.groupc.project.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.ServletContext;
+
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// css/js 미리 압축 : 시작할 때 한 번 .gz 를 만들어 두고 요청마다 압축하지 않음(ProjectConfiguration)
+// 원본보다 새 .gz 가 있으면 건너뜀, 작은 파일(minSize 미만)이나 줄지 않는 파일은 만들지 않음
+// brotli 는 JDK 에 압축기가 없으므로 빌드에서 만든 .br 이 있을 때만 응답에 사용
+@Component
+public class StaticAssetCompressor {
+
+	private static final List<String> EXTENSIONS = Arrays.asList("css", "js", "svg", "json", "txt", "html");
+
+	@Autowired(required = false)
+	private ServletContext servletContext;
+
+	int minSize = 1024;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() throws IOException {
+		if(servletContext == null) {
+			return;
+		}
+		for(String dir : new String[] {"/resources/css", "/resources/js"}) {
+			String path = servletContext.getRealPath(dir);
+			if(path != null) {
+				compress(new File(path).toPath());
+			}
+		}
+	}
+
+	// 폴더 아래 파일을 압축, 새로 만든 .gz 수 반환
+	public int compress(Path dir) throws IOException {
+		if(!Files.isDirectory(dir)) {
+			return 0;
+		}
+		int count = 0;
+		try(Stream<Path> paths = Files.walk(dir)) {
+			for(Path file : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+				if(compressible(file) && gzip(file)) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	private boolean compressible(Path file) throws IOException {
+		String ext = FilenameUtils.getExtension(file.getFileName().toString()).toLowerCase(Locale.ROOT);
+		return EXTENSIONS.contains(ext) && Files.size(file) >= minSize;
+	}
+
+	// 임시 파일에 압축 후 이름 변경, 만들었으면 true
+	private boolean gzip(Path file) throws IOException {
+		Path target = file.resolveSibling(file.getFileName() + ".gz");
+		if(Files.exists(target) && Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(file)) >= 0) {
+			return false;
+		}
+		Path temp = file.resolveSibling("." + file.getFileName() + ".gz.tmp");
+		try {
+			try(OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp)) {
+				{
+					def.setLevel(Deflater.BEST_COMPRESSION);
+				}
+			}) {
+				Files.copy(file, out);
+			}
+			if(Files.size(temp) >= Files.size(file)) {
+				Files.deleteIfExists(target);
+				return false;
+			}
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			return true;
+		}finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+}
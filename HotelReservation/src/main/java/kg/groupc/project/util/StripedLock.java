@@ -0,0 +1,47 @@
+package kg.groupc.project.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 키별 잠금을 고정된 개수(stripes)로 나눠 사용
+// 키마다 Lock 객체를 만들지 않고, 같은 키는 항상 같은 Lock 을 받음(다른 키끼리 가끔 같은 Lock 을 공유할 수 있음)
+public class StripedLock {
+	
+	private final ReentrantLock[] locks;
+	
+	// stripes 는 2의 거듭제곱으로 올림
+	public StripedLock(int stripes) {
+		int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+		locks = new ReentrantLock[size];
+		for(int i = 0; i < size; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+	
+	public Lock get(Object key) {
+		return locks[index(key)];
+	}
+	
+	// 여러 키의 Lock 을 중복 없이 번호 순서대로 반환(항상 같은 순서로 잠가야 교착이 생기지 않음)
+	public List<Lock> getAll(Collection<?> keys) {
+		TreeSet<Integer> indexes = new TreeSet<>();
+		for(Object key : keys) {
+			indexes.add(index(key));
+		}
+		List<Lock> lockList = new ArrayList<>(indexes.size());
+		for(int index : indexes) {
+			lockList.add(locks[index]);
+		}
+		return lockList;
+	}
+	
+	private int index(Object key) {
+		int hash = key.hashCode();
+		hash ^= hash >>> 16;
+		return hash & (locks.length - 1);
+	}
+}
@@ -0,0 +1,105 @@
+package kg.groupc.project.util;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+// 계층형 타이밍 휠(만료 시각이 있는 항목을 시간 순으로 꺼냄)
+// 1단계 : tick 64칸, 2단계 : tick*64 64칸, 3단계 : tick*64*64 64칸 (tick 1초면 약 72시간까지)
+// 추가/만료가 O(1)이고, 상위 단계 칸은 시간이 되면 하위 단계로 내려보냄
+// 동기화하지 않으므로 사용하는 쪽에서 잠금
+public class TimingWheel<T> {
+
+	private static final int BITS = 6;
+	private static final int SLOTS = 1 << BITS;
+	private static final int LEVELS = 3;
+
+	private final long tickMillis;
+	private final ArrayDeque<Entry<T>>[][] wheels;
+	// 마지막으로 처리한 tick
+	private long currentTick;
+	private int size;
+
+	private static class Entry<T> {
+		final T item;
+		final long expireTick;
+
+		Entry(T item, long expireTick) {
+			this.item = item;
+			this.expireTick = expireTick;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public TimingWheel(long tickMillis, long nowMillis) {
+		this.tickMillis = tickMillis;
+		this.currentTick = nowMillis / tickMillis;
+		wheels = new ArrayDeque[LEVELS][SLOTS];
+		for(int level = 0; level < LEVELS; level++) {
+			for(int slot = 0; slot < SLOTS; slot++) {
+				wheels[level][slot] = new ArrayDeque<>();
+			}
+		}
+	}
+
+	// 최대 대기 시간(밀리초)
+	public long maxDelayMillis() {
+		return tickMillis * ((1L << (BITS * LEVELS)) - 1);
+	}
+
+	// expireAtMillis 에 만료되도록 추가(이미 지난 시각이면 다음 tick 에 만료)
+	public void add(T item, long expireAtMillis) {
+		long expireTick = (expireAtMillis + tickMillis - 1) / tickMillis;
+		if(expireTick - currentTick > maxDelayMillis() / tickMillis) {
+			throw new IllegalArgumentException("expireAt : " + expireAtMillis);
+		}
+		size++;
+		place(new Entry<>(item, Math.max(expireTick, currentTick + 1)));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	// nowMillis 까지 만료된 항목을 expired 로 넘기고 제거
+	public void advance(long nowMillis, Consumer<T> expired) {
+		long targetTick = nowMillis / tickMillis;
+		if(size == 0) {
+			currentTick = Math.max(currentTick, targetTick);
+			return;
+		}
+		while(currentTick < targetTick) {
+			currentTick++;
+			// 상위 단계 칸의 시간이 되면 하위 단계로 내려보냄
+			for(int level = LEVELS - 1; level > 0; level--) {
+				if((currentTick & ((1L << (BITS * level)) - 1)) == 0) {
+					ArrayDeque<Entry<T>> bucket = wheels[level][slot(currentTick, level)];
+					while(!bucket.isEmpty()) {
+						place(bucket.poll());
+					}
+				}
+			}
+			ArrayDeque<Entry<T>> bucket = wheels[0][slot(currentTick, 0)];
+			while(!bucket.isEmpty()) {
+				size--;
+				expired.accept(bucket.poll().item);
+			}
+			if(size == 0) {
+				currentTick = targetTick;
+			}
+		}
+	}
+
+	private void place(Entry<T> entry) {
+		long delay = entry.expireTick - currentTick;
+		int level = 0;
+		while(level < LEVELS - 1 && delay >= (1L << (BITS * (level + 1)))) {
+			level++;
+		}
+		// 상위 단계에서 내려온 항목은 delay 가 0일 수 있는데, 0단계 현재 칸은 내려보낸 뒤에 처리하므로 이번 tick 에 만료됨
+		wheels[level][slot(entry.expireTick, level)].add(entry);
+	}
+
+	private static int slot(long tick, int level) {
+		return (int) ((tick >>> (BITS * level)) & (SLOTS - 1));
+	}
+}
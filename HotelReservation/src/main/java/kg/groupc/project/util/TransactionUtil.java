@@ -0,0 +1,40 @@
+package kg.groupc.project.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 종료 시점에 실행할 작업 등록(메모리 색인/달력/캐시/순위를 DB 와 맞추기 위함)
+// 트랜잭션 밖에서 호출하면 바로 실행
+public class TransactionUtil {
+	
+	private TransactionUtil() {
+	}
+	
+	// 커밋된 뒤에만 실행(롤백된 변경이 메모리에 반영되지 않도록)
+	public static void afterCommit(Runnable action) {
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		}else {
+			action.run();
+		}
+	}
+	
+	// 커밋/롤백과 관계없이 트랜잭션이 끝난 뒤 실행(캐시 제거 등)
+	public static void afterCompletion(Runnable action) {
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					action.run();
+				}
+			});
+		}else {
+			action.run();
+		}
+	}
+}
@@ -0,0 +1,179 @@
+package kg.groupc.project.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import kg.groupc.project.entity.account.Account;
+import kg.groupc.project.repository.account.AccountRepository;
+
+// 가입된 아이디 블룸 필터(메모리) : 회원가입 아이디 중복 확인용
+// "없음"은 확실하므로 DB 를 조회하지 않고, "있을 수도 있음"만 DB 로 확인
+// 시작 시 전체 아이디로 만들고 가입할 때마다 추가(탈퇴해도 아이디는 남으므로 삭제 없음)
+// 크기는 예상 건수와 오탐률(fpp)로 정함 : 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m/n ln 2
+@Component
+public class UserIdBloomFilter {
+
+	@Autowired(required = false)
+	private AccountRepository<Account, Long> accountRepository;
+
+	@Value("${signup.bloom.expected-insertions:100000}")
+	long expectedInsertions = 100000;
+	@Value("${signup.bloom.fpp:0.01}")
+	double fpp = 0.01;
+
+	private static class Bits {
+		final long bitCount;
+		final int hashCount;
+		final AtomicLongArray words;
+		final AtomicLong inserted = new AtomicLong();
+
+		Bits(long expected, double fpp) {
+			long n = Math.max(1, expected);
+			long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+			this.words = new AtomicLongArray((int) ((Math.max(64, m) + 63) / 64));
+			this.bitCount = words.length() * 64L;
+			this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+		}
+
+		void put(String userId) {
+			long[] hash = hash(userId);
+			for(int i = 0; i < hashCount; i++) {
+				long bit = Math.floorMod(hash[0] + i * hash[1], bitCount);
+				int index = (int) (bit >>> 6);
+				long mask = 1L << bit;
+				long word;
+				do {
+					word = words.get(index);
+				}while((word & mask) == 0 && !words.compareAndSet(index, word, word | mask));
+			}
+			inserted.incrementAndGet();
+		}
+
+		boolean mightContain(String userId) {
+			long[] hash = hash(userId);
+			for(int i = 0; i < hashCount; i++) {
+				long bit = Math.floorMod(hash[0] + i * hash[1], bitCount);
+				if((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private volatile Bits bits;
+	// 다시 만드는 중에 추가된 아이디(다 만든 뒤 새 필터에 추가)
+	private List<String> pending;
+	private final Object lock = new Object();
+
+	// 지표
+	private final AtomicLong checks = new AtomicLong();
+	private final AtomicLong skipped = new AtomicLong();
+	private final AtomicLong falsePositives = new AtomicLong();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() {
+		if(accountRepository != null) {
+			reload(accountRepository.findAllUserIds());
+		}
+	}
+
+	// 전체 아이디로 다시 만듦(예상 건수보다 많으면 두 배 크기로)
+	public void reload(List<String> userIdList) {
+		synchronized(lock) {
+			pending = new ArrayList<>();
+		}
+		Bits newBits = new Bits(Math.max(expectedInsertions, userIdList.size() * 2L), fpp);
+		for(String userId : userIdList) {
+			newBits.put(userId);
+		}
+		synchronized(lock) {
+			for(String userId : pending) {
+				newBits.put(userId);
+			}
+			pending = null;
+			bits = newBits;
+		}
+	}
+
+	// 가입 시 추가
+	public void put(String userId) {
+		synchronized(lock) {
+			if(pending != null) {
+				pending.add(userId);
+			}
+			if(bits != null) {
+				bits.put(userId);
+			}
+		}
+	}
+
+	// false 면 확실히 없는 아이디, true 면 DB 확인 필요(아직 만들기 전이면 항상 true)
+	public boolean mightContain(String userId) {
+		checks.incrementAndGet();
+		Bits current = bits;
+		if(current == null || current.mightContain(userId)) {
+			return true;
+		}
+		skipped.incrementAndGet();
+		return false;
+	}
+
+	// mightContain 이 true 였는데 DB 에 없었음
+	public void recordFalsePositive() {
+		falsePositives.incrementAndGet();
+	}
+
+	// 크기/해시 수, 설정 오탐률과 현재 건수 기준 예상 오탐률, 조회/생략/오탐 건수
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<>();
+		Bits current = bits;
+		metrics.put("ready", current != null);
+		metrics.put("configuredFpp", fpp);
+		metrics.put("checks", checks.get());
+		metrics.put("dbSkipped", skipped.get());
+		metrics.put("falsePositives", falsePositives.get());
+		if(current != null) {
+			long n = current.inserted.get();
+			metrics.put("bits", current.bitCount);
+			metrics.put("bytes", current.bitCount / 8);
+			metrics.put("hashes", current.hashCount);
+			metrics.put("inserted", n);
+			metrics.put("expectedFpp", expectedFpp(current, n));
+		}
+		return metrics;
+	}
+
+	static double expectedFpp(Bits bits, long inserted) {
+		return Math.pow(1 - Math.exp(-(double) bits.hashCount * inserted / bits.bitCount), bits.hashCount);
+	}
+
+	// 64비트 해시 두 개(FNV-1a 후 섞기), 이중 해싱 h1 + i * h2 로 k 개 위치를 만듦
+	private static long[] hash(String userId) {
+		long h = 0xcbf29ce484222325L;
+		for(byte b : userId.getBytes(StandardCharsets.UTF_8)) {
+			h ^= (b & 0xff);
+			h *= 0x100000001b3L;
+		}
+		long h1 = mix(h);
+		long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;//홀수(모든 위치를 돌도록)
+		return new long[] {h1, h2};
+	}
+
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
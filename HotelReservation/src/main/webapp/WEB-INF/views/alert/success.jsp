@@ -17,6 +17,8 @@
 			location.href='${pageContext.request.contextPath}/'
 		}else if(type === 'change' || type === 'pwdchange'){
 			location.href='${pageContext.request.contextPath}/mypage'
+		}else if(type === 'reservation'){
+			location.href='${pageContext.request.contextPath}/hotel/reservation/${seq}'
 		}else{
 			location.href='${pageContext.request.contextPath}/login'
 		}
@@ -1,6 +1,7 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8"
     pageEncoding="UTF-8"%>
 <%@taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%@taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt" %>
 <%@ taglib prefix="sec" uri="http://www.springframework.org/security/tags" %>
 
 <!DOCTYPE html>
@@ -10,12 +11,51 @@
 	<meta charset="UTF-8">
 	<title>Home</title>
 	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/home.css">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
+	<link rel="stylesheet" href="<c:url value="/resources/css/home.css"/>">
 </head>
 <body>
 	<c:import url="${pageContext.request.contextPath}/nav"></c:import>
 	
+	<br>
+	<hr>
+	<br>
+	<!-- 순위 -->
+	<div class="card-group">
+	  <div class="card">
+	    <div class="card-body">
+	      <h5 class="card-title" style="text-align: center">평점 좋은 호텔</h5>
+	      <ol class="list-group list-group-numbered">
+	        <c:forEach var="entry" items="${topHotelList}">
+	          <li class="list-group-item"><a href="<c:url value="/hotel/detail/${entry.seq}"/>">${entry.name}</a>
+	            <fmt:formatNumber value="${entry.avg}" pattern="0.0"/> (리뷰 ${entry.reviewCount}개)</li>
+	        </c:forEach>
+	      </ol>
+	    </div>
+	  </div>
+	  <div class="card">
+	    <div class="card-body">
+	      <h5 class="card-title" style="text-align: center">평점 좋은 맛집</h5>
+	      <ol class="list-group list-group-numbered">
+	        <c:forEach var="entry" items="${topRestaurantList}">
+	          <li class="list-group-item"><a href="<c:url value="/restaurant/${entry.seq}"/>">${entry.name}</a>
+	            <fmt:formatNumber value="${entry.avg}" pattern="0.0"/> (리뷰 ${entry.reviewCount}개)</li>
+	        </c:forEach>
+	      </ol>
+	    </div>
+	  </div>
+	  <div class="card">
+	    <div class="card-body">
+	      <h5 class="card-title" style="text-align: center">즐겨찾기 많은 맛집</h5>
+	      <ol class="list-group list-group-numbered">
+	        <c:forEach var="entry" items="${lovedRestaurantList}">
+	          <li class="list-group-item"><a href="<c:url value="/restaurant/${entry.seq}"/>">${entry.name}</a>
+	            (즐겨찾기 ${entry.favoriteCount}개)</li>
+	        </c:forEach>
+	      </ol>
+	    </div>
+	  </div>
+	</div>
 	<br>
 	<hr>
 	<br>
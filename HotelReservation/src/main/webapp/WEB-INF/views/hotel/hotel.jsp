@@ -1,7 +1,9 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8"
     pageEncoding="UTF-8"%>
 <%@taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%@taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt" %>
 <%@ taglib prefix="sec" uri="http://www.springframework.org/security/tags" %>
+<%@taglib uri="/WEB-INF/tld/images.tld" prefix="images" %>
 
 <!DOCTYPE html>
 <html>
@@ -9,7 +11,7 @@
 	<meta charset="UTF-8">
 	<title>Hotel</title>
 	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
 </head>
 <style>
 	div {
@@ -47,7 +49,7 @@
 					<h6 class="card-subtitle text-muted">Support card subtitle</h6>
 				</div>
 				<svg xmlns="http://www.w3.org/2000/svg" class="d-block user-select-none" width="100%" height="200" aria-label="Placeholder: Image cap" focusable="false" role="img" preserveAspectRatio="xMidYMid slice" viewBox="0 0 318 180" style="font-size:1.125rem;text-anchor:middle">
-				<image href="${pageContext.request.contextPath}/resources/img/hotel/${hotelMainFormDto.img}" width="100%" height="100%"/>
+				<image href="${pageContext.request.contextPath}${images:url('hotel', hotelMainFormDto.img, '')}" width="100%" height="100%"/>
 				<text x="50%" y="50%" fill="#dee2e6" dy=".3em"></text>
 				</svg>
 				<div class="card-body">
@@ -56,7 +58,7 @@
 				<ul class="list-group list-group-flush">
 					<li class="list-group-item">호텔 전화번호 : <c:out value="${hotelMainFormDto.phone}" /></li>
 					<li class="list-group-item">호텔 주소 : <c:out value="${hotelMainFormDto.address}" /></li>
-					<li class="list-group-item">호텔 평점 : <c:out value="${hotelMainFormDto.avg}" /></li>
+					<li class="list-group-item">호텔 평점 : <fmt:formatNumber value="${hotelMainFormDto.avg}" pattern="0.0"/> (리뷰 <c:out value="${hotelMainFormDto.reviewCount}" />개)</li>
 				</ul>
 				<div class="card-body">
 					<a href="/hotel/detail/${hotelMainFormDto.seq}" class="card-link">예약하기</a>
@@ -66,6 +68,46 @@
 		</c:forEach>
 	</div>
 	
+	<c:if test="${cursorMode}">
+		<!-- 커서 모드 : 이전/다음만 제공 -->
+		<ul class="pagination pagination-lg container-fluid justify-content-center">
+			<c:if test="${prevCursor == null}">
+				<li class="page-item disabled">
+					<a class="page-link" href="#">&lt;</a>
+				</li>
+			</c:if>
+			<c:if test="${prevCursor != null}">
+				<c:url var="prevUrl" value="hotel">
+					<c:param name="mode" value="cursor"/>
+					<c:param name="num" value="${num}"/>
+					<c:param name="keyword" value="${keyword}"/>
+					<c:param name="cursor" value="${prevCursor}"/>
+					<c:param name="dir" value="prev"/>
+				</c:url>
+				<li class="page-item">
+					<a class="page-link" href="${prevUrl}">&lt;</a>
+				</li>
+			</c:if>
+			<c:if test="${nextCursor == null}">
+				<li class="page-item disabled">
+					<a class="page-link" href="#">&gt;</a>
+				</li>
+			</c:if>
+			<c:if test="${nextCursor != null}">
+				<c:url var="nextUrl" value="hotel">
+					<c:param name="mode" value="cursor"/>
+					<c:param name="num" value="${num}"/>
+					<c:param name="keyword" value="${keyword}"/>
+					<c:param name="cursor" value="${nextCursor}"/>
+				</c:url>
+				<li class="page-item">
+					<a class="page-link" href="${nextUrl}">&gt;</a>
+				</li>
+			</c:if>
+		</ul>
+	</c:if>
+	
+	<c:if test="${!cursorMode}">
 		<ul class="pagination pagination-lg container-fluid justify-content-center">
 
 
@@ -126,6 +168,7 @@
 				</li>
 			</c:if>
 		</ul>
+	</c:if>
 	
 </body>
 </html>
\ No newline at end of file
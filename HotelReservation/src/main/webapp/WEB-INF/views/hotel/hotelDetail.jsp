@@ -9,7 +9,7 @@
 	<meta charset="UTF-8">
 	<title>HotelDetail</title>
 	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
 </head>
 <body>
 	<c:import url="${pageContext.request.contextPath}/nav"></c:import>
@@ -2,6 +2,7 @@
     pageEncoding="UTF-8"%>
 <%@taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
 <%@ taglib prefix="sec" uri="http://www.springframework.org/security/tags" %>
+<%@taglib uri="/WEB-INF/tld/images.tld" prefix="images" %>
    
 <!DOCTYPE html>
 <html>
@@ -13,7 +14,7 @@
 	<script type="text/javascript" src="https://cdn.jsdelivr.net/npm/daterangepicker/daterangepicker.min.js"></script>
 	<link rel="stylesheet" type="text/css" href="https://cdn.jsdelivr.net/npm/daterangepicker/daterangepicker.css" />
 	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
 	<style type="text/css">
 		.table{table-layout: fixed;}
 		.title{vertical-align: middle;}
@@ -22,7 +23,7 @@
 		.option-title{border-bottom: none;}
 		.warning li::marker{content: '- ';}
 	</style>
-	<script type="text/javascript" src="${pageContext.request.contextPath}/resources/js/reserve.js"></script>
+	<script type="text/javascript" src="<c:url value="/resources/js/reserve.js"/>"></script>
 </head>
 <body>
 	<c:import url="${pageContext.request.contextPath}/nav"></c:import>
@@ -47,7 +48,7 @@
 				    <tr>
 				      <th rowspan="4">
 				      	<div style="imgfield">
-							<img src="${pageContext.request.contextPath}/resources/img/room/${img}" alt="review-target-image" id="img" style="width: 100%">
+							<img src="${pageContext.request.contextPath}${images:url('room', img, '')}" alt="review-target-image" id="img" style="width: 100%">
 				      	</div>
 				      </th>
 				      <th class="title">${roomName}</th>
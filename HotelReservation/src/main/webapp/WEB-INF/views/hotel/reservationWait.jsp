@@ -0,0 +1,44 @@
+<%@ page language="java" contentType="text/html; charset=UTF-8"
+    pageEncoding="UTF-8"%>
+<%@taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+
+<!DOCTYPE html>
+<html>
+<head>
+	<meta charset="UTF-8">
+	<title>예약 확인 중</title>
+	<script type="text/javascript" src="https://cdn.jsdelivr.net/jquery/latest/jquery.min.js"></script>
+	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
+</head>
+<body>
+	<c:import url="${pageContext.request.contextPath}/nav"></c:import>
+	
+	<div class="container">
+		<p id="waitMsg">예약을 확인하고 있습니다. 잠시만 기다려주세요.</p>
+	</div>
+	<script type="text/javascript">
+		// 1초마다 접수 상태 조회 -> 확정되면 마이페이지, 거절되거나 접수 내역이 없으면(만료/잘못된 번호) 예약 화면으로
+		function pollTicket(){
+			$.ajax({
+				url:'${pageContext.request.contextPath}/hotel/reservation/ticket/${ticketId}',
+				type:'get',
+				success: function(result){
+					if(result.status === 'CONFIRMED'){
+						alert(`예약이 완료되었습니다.\n이용해 주셔서 감사합니다.`)
+						location.href='${pageContext.request.contextPath}/mypage'
+					}else if(result.status === 'REJECTED'){
+						alert('이미 예약된 날짜입니다. 날짜를 다시 선택해주세요.')
+						location.href='${pageContext.request.contextPath}/hotel/reservation/${seq}'
+					}else if(result.status == null){
+						alert('접수 내역을 찾을 수 없습니다. 예약을 다시 진행해주세요.')
+						location.href='${pageContext.request.contextPath}/hotel/reservation/${seq}'
+					}else{
+						setTimeout(pollTicket, 1000)
+					}
+				}
+			});
+		}
+		pollTicket()
+	</script>
+</body>
+</html>
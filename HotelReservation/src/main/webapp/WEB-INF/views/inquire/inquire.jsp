@@ -10,8 +10,8 @@
 
 <%-- Main Style Sheet --%>
 <link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous"> 
-<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
-<script type="text/javascript" src="${pageContext.request.contextPath}/resources/js/signup.js"></script>
+<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
+<script type="text/javascript" src="<c:url value="/resources/js/signup.js"/>"></script>
 <script src="https://ajax.googleapis.com/ajax/libs/jquery/3.6.0/jquery.min.js"></script>
 	<style type="text/css">
 		
@@ -10,7 +10,7 @@
 <link rel="icon" href="resources/img/hotel.png">
 
 <!-- include css -->
-   	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
+   	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
 	<script src="https://ajax.googleapis.com/ajax/libs/jquery/3.6.0/jquery.min.js"></script>
 	<style type="text/css">
 		.write-form{margin:auto; width:700px;}
@@ -11,7 +11,7 @@
 	<title>문의상세</title>
 	
 	<%-- 메인 스타일 sheet --%>
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
 	<style type="text/css">
 		.form-group row{
 			justify-center: center;
@@ -1,12 +1,60 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8"
     pageEncoding="UTF-8"%>
+<%@taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
 <!DOCTYPE html>
 <html>
 <head>
-<meta charset="UTF-8">
-<title>Insert title here</title>
+	<meta charset="UTF-8">
+	<title>이용 내역</title>
+	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
+	<style type="text/css">
+		.mypage{width: 60%; margin: auto;}
+		.review-btn-field{width: 15%; text-align: center;}
+		td{vertical-align: middle;}
+	</style>
 </head>
 <body>
-
+	<c:import url="${pageContext.request.contextPath}/nav"></c:import><br>
+	
+	<fieldset class="mypage">
+		<legend>이용 내역</legend><hr>
+		<table class="table">
+			<thead>
+				<tr>
+					<th style="width: 15%">호텔명</th>
+					<th style="width: 35%">방이름</th>
+					<th style="width: 14%">예약자</th>
+					<th style="width: 13%">예약일</th>
+					<th style="width: 13%">종료일</th>
+					<th class="review-btn-field" style="width: 10%"></th>
+				</tr>
+			</thead>
+			<tbody>
+			<c:forEach var="pbooking" items="${historyPage.content}">
+				<tr>
+					<td>${pbooking.hotel}</td>
+					<td>${pbooking.room}</td>
+					<td>${pbooking.reserver}</td>
+					<td>${pbooking.reserveDate}</td>
+					<td>${pbooking.reserveEndDate}</td>
+					<td class="review-btn-field"><a class="text-muted" href="${pageContext.request.contextPath}/mypage/review/hotel/write/${pbooking.hotelSeq}">리뷰 작성</a></td>
+				</tr>
+			</c:forEach>
+			<c:if test="${historyPage.totalElements == 0}">
+				<tr><td colspan="6" style="text-align: center;">이용 내역이 없습니다.</td></tr>
+			</c:if>
+			</tbody>
+		</table>
+		<ul class="pagination justify-content-center">
+			<li class="page-item ${historyPage.first ? 'disabled' : ''}">
+				<a class="page-link" href="${pageContext.request.contextPath}/mypage/history?page=${historyPage.number - 1}">이전</a>
+			</li>
+			<li class="page-item active"><span class="page-link">${historyPage.number + 1}</span></li>
+			<li class="page-item ${historyPage.last ? 'disabled' : ''}">
+				<a class="page-link" href="${pageContext.request.contextPath}/mypage/history?page=${historyPage.number + 1}">다음</a>
+			</li>
+		</ul>
+	</fieldset>
 </body>
-</html>
\ No newline at end of file
+</html>
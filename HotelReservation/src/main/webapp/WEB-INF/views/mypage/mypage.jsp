@@ -9,8 +9,9 @@
 	<meta charset="UTF-8">
 	<title>마이 페이지</title>
 	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
 	<script src="https://ajax.googleapis.com/ajax/libs/jquery/3.6.0/jquery.min.js"></script>
+	<script type="text/javascript" src="<c:url value="/resources/js/mypage.js"/>"></script>
 	<style type="text/css">
 		.mypage{width: 60%; margin: auto;}
 		.review-btn-field{width: 15%; text-align: center;}
@@ -46,8 +47,8 @@
 							<th style="width: 13%">종료일</th>
 						<tr>
 					</thead>
-					<tbody>
-					<c:forEach var="rbooking" items="${reserveBookingList}" varStatus="status" end="4">
+					<tbody id="reservationSection">
+					<c:forEach var="rbooking" items="${reserveBookingList}" varStatus="status">
 							<tr>
 								<td>${rbooking.hotel}</td>
 								<td>${rbooking.room}</td>
@@ -58,6 +59,9 @@
 					</c:forEach>
 					</tbody>
 				</table>
+				<c:if test="${reserveHasNext}">
+					<button type="button" class="btn btn-sm btn-outline-secondary w-100" data-section="reservation" data-page="1" onclick="loadSection(this)">더 보기</button>
+				</c:if>
 				<small class="form-text"><a href="${pageContext.request.contextPath}/" style="float:right;">상세 보기</a></small><br>
 		      </div>
 		    </div>
@@ -81,8 +85,8 @@
 							<th class="review-btn-field" style="width: 10%"></th>
 						<tr>
 					</thead>
-					<tbody>
-					<c:forEach var="pbooking" items="${progressedBookingList}" varStatus="status" end="4">
+					<tbody id="historySection">
+					<c:forEach var="pbooking" items="${progressedBookingList}" varStatus="status">
 							<tr>
 								<td>${pbooking.hotel}</td>
 								<td>${pbooking.room}</td>
@@ -94,7 +98,10 @@
 					</c:forEach>
 					</tbody>
 				</table>
-				<small class="form-text"><a href="${pageContext.request.contextPath}/" style="float:right;">상세 보기</a></small><br>
+				<c:if test="${progressedHasNext}">
+					<button type="button" class="btn btn-sm btn-outline-secondary w-100" data-section="history" data-page="1" onclick="loadSection(this)">더 보기</button>
+				</c:if>
+				<small class="form-text"><a href="${pageContext.request.contextPath}/mypage/history" style="float:right;">상세 보기</a></small><br>
 		      </div>
 		    </div>
 		  </div>
@@ -115,8 +122,8 @@
 							<th style="width: 20%">작성일</th>
 						<tr>
 					</thead>
-					<tbody>
-					<c:forEach var="hotelScore" items="${hotelScoreList}" varStatus="status" end="2">
+					<tbody id="hotelScoreSection">
+					<c:forEach var="hotelScore" items="${hotelScoreList}" varStatus="status">
 							<tr>
 								<td>${hotelScore.hotelName}</td>
 								<td>${hotelScore.scoreString}</td>
@@ -126,6 +133,9 @@
 					</c:forEach>
 					</tbody>
 				</table>
+				<c:if test="${hotelScoreHasNext}">
+					<button type="button" class="btn btn-sm btn-outline-secondary w-100" data-section="hotelScore" data-page="1" onclick="loadSection(this)">더 보기</button>
+				</c:if>
 				<small class="form-text"><a href="${pageContext.request.contextPath}/" style="float:right;">상세 보기</a></small><br>
 				<table class="table">
 		        	<thead>
@@ -136,8 +146,8 @@
 							<th style="width: 20%">작성일</th>
 						<tr>
 					</thead>
-					<tbody>
-					<c:forEach var="restaurantScore" items="${restaurantScoreList}" varStatus="status" end="2">
+					<tbody id="restaurantScoreSection">
+					<c:forEach var="restaurantScore" items="${restaurantScoreList}" varStatus="status">
 							<tr>
 								<td>${restaurantScore.restaurantName}</td>
 								<td>${restaurantScore.scoreString}</td>
@@ -147,6 +157,9 @@
 					</c:forEach>
 					</tbody>
 				</table>
+				<c:if test="${restaurantScoreHasNext}">
+					<button type="button" class="btn btn-sm btn-outline-secondary w-100" data-section="restaurantScore" data-page="1" onclick="loadSection(this)">더 보기</button>
+				</c:if>
 				<small class="form-text"><a href="${pageContext.request.contextPath}/" style="float:right;">상세 보기</a></small><br>
 		      </div>
 		    </div>
@@ -179,8 +192,8 @@
 							<th class="review-btn-field"></th>
 						<tr>
 					</thead>
-					<tbody>
-					<c:forEach var="stars" items="${starsDtoList}" varStatus="status" end="4">
+					<tbody id="starsSection">
+					<c:forEach var="stars" items="${starsDtoList}" varStatus="status">
 							<tr>
 								<td>${stars.restaurantName}</td>
 								<td>${stars.restaurantPhone}</td>
@@ -189,6 +202,9 @@
 					</c:forEach>
 					</tbody>
 				</table>
+				<c:if test="${starsHasNext}">
+					<button type="button" class="btn btn-sm btn-outline-secondary w-100" data-section="stars" data-page="1" onclick="loadSection(this)">더 보기</button>
+				</c:if>
 				<small class="form-text"><a href="${pageContext.request.contextPath}/" style="float:right;">상세 보기</a></small><br>
 		      </div>
 		    </div>
@@ -2,6 +2,7 @@
     pageEncoding="UTF-8"%>
 <%@taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
 <%@ taglib prefix="sec" uri="http://www.springframework.org/security/tags" %>
+<%@taglib uri="/WEB-INF/tld/images.tld" prefix="images" %>
    
 <!DOCTYPE html>
 <html>
@@ -9,7 +10,7 @@
 	<meta charset="UTF-8">
 	<title>리뷰 작성</title>
 	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
 	<script src="https://ajax.googleapis.com/ajax/libs/jquery/3.6.0/jquery.min.js"></script>
 	<style type="text/css">
  		.title{vertical-align: middle;}
@@ -38,10 +39,10 @@
 				      <th scope="row" rowspan="4" style="height: 0px">
 				      	<div class="img-field">
 				      		<c:if test="${type eq 'hotel'}">
-				      			<img class="review-img" src="${pageContext.request.contextPath}/resources/img/hotel/${img}" alt="review-target-image" id="image" style="vertical-align: middle;">
+				      			<img class="review-img" src="${pageContext.request.contextPath}${images:url('hotel', img, '')}" alt="review-target-image" id="image" style="vertical-align: middle;">
 				      		</c:if>
 				      		<c:if test="${type eq 'restaurant'}">
-				      			<img class="review-img" src="${pageContext.request.contextPath}/resources/img/restaurantImg/${img}" alt="review-target-image" id="image">
+				      			<img class="review-img" src="${pageContext.request.contextPath}${images:url('restaurantImg', img, 'list')}" onerror="this.onerror=null;this.src='${pageContext.request.contextPath}${images:url('restaurantImg', img, '')}'" alt="review-target-image" id="image">
 				      		</c:if>
 				      	</div>
 				      </th>
@@ -1,14 +1,15 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8"
     pageEncoding="UTF-8"%>
 <%@taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%@taglib uri="/WEB-INF/tld/images.tld" prefix="images" %>
 <!DOCTYPE html>
 <html>
 <head>
 <meta charset="UTF-8">
 	<title>맛집 세부정보</title>
 	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
-	<link href="${pageContext.request.contextPath}/resources/css/restaurant.css" rel="stylesheet" type="text/css">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
+	<link href="<c:url value="/resources/css/restaurant.css"/>" rel="stylesheet" type="text/css">
 <style>
 	img {
 	width: 100%;
@@ -31,7 +32,7 @@
 	<div class="card border-primary mb-3">
     <div class="row no-gutters">
         <div class="col-md-4" style="text-align:center; align-items:center; display: flex; justify-content:center;">
-            <img alt="" src="<c:url value="${pageContext.request.contextPath}/resources/img/menuImg/${menu.img}"/>"/>        	
+            <img alt="" src="<c:url value="${images:url('menuImg', menu.img, 'detail')}"/>" onerror="this.onerror=null;this.src='<c:url value="${images:url('menuImg', menu.img, '')}"/>'"/>        	
         </div>
             <div class="col-md-8">
             <div class="card-body">
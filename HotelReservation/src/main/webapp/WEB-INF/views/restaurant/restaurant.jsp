@@ -1,6 +1,7 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8"
     pageEncoding="UTF-8"%>
 <%@taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%@taglib uri="/WEB-INF/tld/images.tld" prefix="images" %>
 
 <!DOCTYPE html>
 <html>
@@ -8,8 +9,8 @@
 	<meta charset="UTF-8">
 	<title>맛집 리스트</title>
 	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
-	<link href="${pageContext.request.contextPath}/resources/css/restaurant.css" rel="stylesheet" type="text/css">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
+	<link href="<c:url value="/resources/css/restaurant.css"/>" rel="stylesheet" type="text/css">
 <style>
 	div {
 		text-align: center;
@@ -27,13 +28,13 @@
     <!-- 배너 -->
 	<div class="slideshow-container">
 	  <div class="mySlides fade">
-	    <img src="<c:url value="${pageContext.request.contextPath}/resources/img/restaurantBanner/banner1.jpg"/>" style="width:100%">
+	    <img src="<c:url value="${pageContext.request.contextPath}/resources/img/restaurantBanner/detail/banner1.jpg"/>" onerror="this.onerror=null;this.src='<c:url value="${pageContext.request.contextPath}/resources/img/restaurantBanner/banner1.jpg"/>'" style="width:100%">
 	  </div>
 	  <div class="mySlides fade">
-	    <img src="<c:url value="${pageContext.request.contextPath}/resources/img/restaurantBanner/banner2.jpg"/>" style="width:100%">
+	    <img src="<c:url value="${pageContext.request.contextPath}/resources/img/restaurantBanner/detail/banner2.jpg"/>" onerror="this.onerror=null;this.src='<c:url value="${pageContext.request.contextPath}/resources/img/restaurantBanner/banner2.jpg"/>'" style="width:100%">
 	  </div>
 	  <div class="mySlides fade">
-	    <img src="<c:url value="${pageContext.request.contextPath}/resources/img/restaurantBanner/banner3.jpg"/>" style="width:100%">
+	    <img src="<c:url value="${pageContext.request.contextPath}/resources/img/restaurantBanner/detail/banner3.jpg"/>" onerror="this.onerror=null;this.src='<c:url value="${pageContext.request.contextPath}/resources/img/restaurantBanner/banner3.jpg"/>'" style="width:100%">
 	  </div>
 	</div>
 	<br>
@@ -99,7 +100,7 @@
 	  	<tbody>
 	  		<c:forEach var="restaurant" items="${pageList.content}">
 	    		<tr class="table-active">
-	      		<td><img alt="" src="<c:url value="${pageContext.request.contextPath}/resources/img/restaurantImg/${restaurant.img}"/>" style="width: 100%; height: 150px; object-fit: cover;"/></td>
+	      		<td><img alt="" src="<c:url value="${images:url('restaurantImg', restaurant.img, 'list')}"/>" onerror="this.onerror=null;this.src='<c:url value="${images:url('restaurantImg', restaurant.img, '')}"/>'" style="width: 100%; height: 150px; object-fit: cover;"/></td>
 	      		<td><a href="<c:url value="/restaurant/${restaurant.seq}"/>">${restaurant.name}</a></td>
 	      		<td>${restaurant.address}</td>
 	      		<td>${restaurant.phone}</td>
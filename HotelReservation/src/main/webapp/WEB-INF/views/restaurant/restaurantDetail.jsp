@@ -1,14 +1,16 @@
 <%@ page language="java" contentType="text/html; charset=UTF-8"
     pageEncoding="UTF-8"%>
 <%@taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%@taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt" %>
+<%@taglib uri="/WEB-INF/tld/images.tld" prefix="images" %>
 <!DOCTYPE html>
 <html>
 <head>
 <meta charset="UTF-8">
 	<title>맛집 세부정보</title>
 	<link href="https://cdn.jsdelivr.net/npm/bootstrap@5.1.3/dist/css/bootstrap.min.css" rel="stylesheet" integrity="sha384-1BmE4kWBq78iYhFldvKuhfTAU6auU8tT94WrHftjDbrCEXSU1oBoqyl2QvZ6jIW3" crossorigin="anonymous">
-	<link rel="stylesheet" href="${pageContext.request.contextPath}/resources/css/bootstrap.min.css">
-	<link href="${pageContext.request.contextPath}/resources/css/restaurant.css" rel="stylesheet" type="text/css">
+	<link rel="stylesheet" href="<c:url value="/resources/css/bootstrap.min.css"/>">
+	<link href="<c:url value="/resources/css/restaurant.css"/>" rel="stylesheet" type="text/css">
 <style>
 	img {
 	width: 100%;
@@ -31,7 +33,7 @@
 	<div class="card border-primary mb-3">
     <div class="row no-gutters">
         <div class="col-md-4" style="text-align:center; align-items:center; display: flex; justify-content:center;">
-            <img alt="" class="detail-restaurant-img" src="<c:url value="${pageContext.request.contextPath}/resources/img/restaurantImg/${restaurant.img}"/>"/>        	
+            <img alt="" class="detail-restaurant-img" src="<c:url value="${images:url('restaurantImg', restaurant.img, 'detail')}"/>" onerror="this.onerror=null;this.src='<c:url value="${images:url('restaurantImg', restaurant.img, '')}"/>'"/>        	
         </div>
             <div class="col-md-8">
             <div class="card-body">
@@ -39,6 +41,7 @@
                 <hr>
                 <p class="card-text">주소 : ${restaurant.address}</p>
                 <p class="card-text">TEL : ${restaurant.phone}</p>
+                <p class="card-text">평점 : <fmt:formatNumber value="${restaurant.scoreAvg}" pattern="0.0"/> (리뷰 ${restaurant.reviewCount}개)</p>
                 <hr>
                 <p class="card-text">${restaurant.description}</p>
                 <hr>
@@ -94,7 +97,7 @@
 	  	<tbody>
 	  		<c:forEach var="menu" items="${menuList}">
 	    		<tr class="table-active">
-	      		<td><img alt="" src="<c:url value="/resources/img/menuImg/${menu.img}"/>"/></td>
+	      		<td><img alt="" src="<c:url value="${images:url('menuImg', menu.img, 'list')}"/>" onerror="this.onerror=null;this.src='<c:url value="${images:url('menuImg', menu.img, '')}"/>'"/></td>
 	      		<td><a href="<c:url value="/restaurant/menu/${menu.seq}"/>">${menu.name}</a></td>
 	      		<td>${menu.price}</td>
 	      		<td>${menu.description}</td>
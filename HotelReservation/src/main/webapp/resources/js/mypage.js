@@ -0,0 +1,57 @@
+const SERVER_ADDRESS = 'http://localhost:8080'
+// 마이페이지 섹션 다음 페이지 조회 후 표에 이어 붙임
+function loadSection(button){
+    var section = button.dataset.section
+    var page = Number(button.dataset.page)
+
+    button.disabled = true
+    $.ajax({
+        url:`${SERVER_ADDRESS}/mypage/section/${section}`,
+        type:'get',
+        data:{page: page},
+        success: function(result){
+            var tbody = document.getElementById(section + 'Section')
+            result.content.forEach(function(item){
+                tbody.insertAdjacentHTML('beforeend', sectionRow(section, item))
+            })
+            button.dataset.page = page + 1
+            button.disabled = false
+            if(!result.hasNext){
+                button.remove()
+            }
+        },
+        error: function(){
+            button.disabled = false
+        }
+    });
+}
+// 섹션별 표 한 줄(JSP 와 같은 모양)
+function sectionRow(section, item){
+    switch(section){
+        case 'reservation':
+            return `<tr><td>${escapeHtml(item.hotel)}</td><td>${escapeHtml(item.room)}</td><td>${escapeHtml(item.reserver)}</td>`
+                + `<td>${item.reserveDate}</td><td>${item.reserveEndDate}</td></tr>`
+        case 'history':
+            return `<tr><td>${escapeHtml(item.hotel)}</td><td>${escapeHtml(item.room)}</td><td>${escapeHtml(item.reserver)}</td>`
+                + `<td>${item.reserveDate}</td><td>${item.reserveEndDate}</td>`
+                + `<td class="review-btn-field"><a class="text-muted" href="${SERVER_ADDRESS}/mypage/review/hotel/write/${item.hotelSeq}">리뷰 작성</a></td></tr>`
+        case 'hotelScore':
+            return `<tr><td>${escapeHtml(item.hotelName)}</td><td>${item.scoreString}</td><td>${reviewDesc(item.desc)}</td><td>${item.day}</td></tr>`
+        case 'restaurantScore':
+            return `<tr><td>${escapeHtml(item.restaurantName)}</td><td>${item.scoreString}</td><td>${reviewDesc(item.desc)}</td><td>${item.day}</td></tr>`
+        case 'stars':
+            return `<tr><td>${escapeHtml(item.restaurantName)}</td><td>${escapeHtml(item.restaurantPhone)}</td>`
+                + `<td class="review-btn-field"><a class="text-muted" href="${SERVER_ADDRESS}/mypage/review/restaurant/write/${item.restaurantSeq}">리뷰 작성</a></td></tr>`
+    }
+    return ''
+}
+// 리뷰 내용(줄바꿈 <br> 만 태그로 남김)
+function reviewDesc(desc){
+    return escapeHtml(desc).replace(/&lt;br&gt;/g, '<br>')
+}
+function escapeHtml(text){
+    if(text == null){
+        return ''
+    }
+    return String(text).replace(/&/g, '&amp;').replace(/</g, '&lt;').replace(/>/g, '&gt;').replace(/"/g, '&quot;')
+}
@@ -11,33 +11,25 @@ const SERVER_ADDRESS = 'http://localhost:8080'
 //     setPrice()
 //     checkDate()
 //  }
-// 숙박 일수에 따른 가격 측정
+// 숙박 일수에 따른 가격 측정(요일/시즌 요금은 서버 견적으로)
 function setPrice(start, end){
-    var checkinDate = start
-    var checkoutDate = end
-    var basePrice = document.getElementById('basePrice').value
-
-    var checkinDateSplit = checkinDate.split('-')
-    var checkoutDateSplit = checkoutDate.split('-')
-    var checkin = new Date(
-                checkinDateSplit[0], 
-                checkinDateSplit[1], 
-                checkinDateSplit[2])
-    var checkout = new Date(
-                checkoutDateSplit[0], 
-                checkoutDateSplit[1], 
-                checkoutDateSplit[2])           
-    
-    var diff = checkout-checkin
-    var mDay = 24 * 60 * 60 * 1000
-    var day = diff / mDay
-    var price = basePrice * day
-
+    var seq = document.getElementById('seq').value
     var priceElement = document.getElementById('priceField')
     var priceInput = document.getElementById('price')
 
-    priceElement.innerText = price.toLocaleString('ko-kr');
-    priceInput.value = price
+    $.ajax({
+        url:`${SERVER_ADDRESS}/hotel/reservation/quote`,
+        type:'get',
+        data:{roomSeq: seq,
+            checkin: start,
+            checkout: end
+        },
+        success: function(result){
+            var price = result.price == null ? 0 : result.price
+            priceElement.innerText = price.toLocaleString('ko-kr');
+            priceInput.value = price
+        }
+    });
 
     checkDate(start, end)
  }
@@ -0,0 +1,134 @@
+package kg.groupc.project.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import kg.groupc.project.entity.account.Account;
+import kg.groupc.project.entity.hotel.Booking;
+import kg.groupc.project.entity.hotel.QBooking;
+import kg.groupc.project.entity.hotel.Room;
+import kg.groupc.project.repository.account.AccountRepository;
+import kg.groupc.project.repository.hotel.BookingRepository;
+import kg.groupc.project.repository.hotel.RoomRepository;
+
+// 같은 방에 동시에 예약 요청이 몰려도 기간이 겹치는 예약이 생기지 않는지 확인
+// (같은 방이 여러 개인 타입은 밤마다 예약 수가 재고를 넘지 않는지 확인)
+// 2099년 날짜로 예약하고 테스트 후 삭제
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+class BookingConcurrencyTest {
+
+	static final int REQUEST_COUNT = 3000;
+	static final LocalDate BASE = LocalDate.of(2099, 1, 1);
+
+	@Autowired
+	MockMvc mockMvc;
+	@Autowired
+	RoomRepository<Room, Long> roomRepository;
+	@Autowired
+	AccountRepository<Account, Long> accountRepository;
+	@Autowired
+	BookingRepository<Booking, Long> bookingRepository;
+
+	@AfterEach
+	void cleanUp() {
+		bookingRepository.deleteAll(bookingRepository.findAll(QBooking.booking.reserveDate.goe(Date.valueOf(BASE))));
+	}
+
+	@Test
+	void noOverlapUnderConcurrentRequests() throws InterruptedException {
+		List<Room> roomList = roomRepository.findAll(PageRequest.of(0, 3)).getContent();
+		String userId = accountRepository.findAll(PageRequest.of(0, 1)).getContent().get(0).getUserId();
+
+		ExecutorService executor = Executors.newFixedThreadPool(64);
+		CountDownLatch start = new CountDownLatch(1);
+		Random random = new Random(42);
+		for(int i = 0; i < REQUEST_COUNT; i++) {
+			Room room = roomList.get(random.nextInt(roomList.size()));
+			LocalDate checkin = BASE.plusDays(random.nextInt(60));
+			LocalDate checkout = checkin.plusDays(1 + random.nextInt(3));
+			executor.submit(() -> {
+				start.await();
+				return mockMvc.perform(post("/hotel/reservation/" + room.getSeq())
+						.param("seq", String.valueOf(room.getSeq()))
+						.param("checkin", checkin.toString())
+						.param("checkout", checkout.toString())
+						.param("people", "1")
+						.param("price", String.valueOf(room.getPrice()))
+						.with(user(userId)));
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+
+		Map<Long, List<Booking>> bookingMap = new HashMap<>();
+		for(Booking booking : bookingRepository.findAll(QBooking.booking.reserveDate.goe(Date.valueOf(BASE)))) {
+			bookingMap.computeIfAbsent(booking.getRoom().getSeq(), k -> new ArrayList<>()).add(booking);
+		}
+		assertFalse(bookingMap.isEmpty());
+		// 방 재고는 처음에 읽은 방 목록에서(예약의 방은 지연 로딩)
+		Map<Long, Long> stockMap = new HashMap<>();
+		for(Room room : roomList) {
+			stockMap.put(room.getSeq(), room.getStock() == null ? 1L : room.getStock());
+		}
+		for(Map.Entry<Long, List<Booking>> entry : bookingMap.entrySet()) {
+			long stock = stockMap.getOrDefault(entry.getKey(), 1L);
+			if(stock <= 1) {
+				assertNoOverlap(entry.getValue());
+			}else {
+				assertWithinStock(entry.getValue(), stock);
+			}
+		}
+	}
+
+	// 방이 1개인 타입 : 기간이 겹치는 예약이 없어야 함
+	static void assertNoOverlap(List<Booking> bookingList) {
+		for(int i = 0; i < bookingList.size(); i++) {
+			for(int j = i + 1; j < bookingList.size(); j++) {
+				Booking a = bookingList.get(i);
+				Booking b = bookingList.get(j);
+				assertFalse(a.getReserveDate().before(b.getReserveEndDate()) && b.getReserveDate().before(a.getReserveEndDate()),
+						"겹치는 예약 : " + a.getSeq() + ", " + b.getSeq());
+			}
+		}
+	}
+
+	// 같은 방이 여러 개인 타입 : 밤마다 예약 수가 stock 이하여야 함
+	static void assertWithinStock(List<Booking> bookingList, long stock) {
+		Map<LocalDate, Long> nightMap = new HashMap<>();
+		for(Booking booking : bookingList) {
+			LocalDate end = booking.getReserveEndDate().toLocalDate();
+			for(LocalDate night = booking.getReserveDate().toLocalDate(); night.isBefore(end); night = night.plusDays(1)) {
+				nightMap.merge(night, 1L, Long::sum);
+			}
+		}
+		for(Map.Entry<LocalDate, Long> entry : nightMap.entrySet()) {
+			assertTrue(entry.getValue() <= stock, "재고 초과 : " + entry.getKey() + " " + entry.getValue() + " > " + stock);
+		}
+	}
+}
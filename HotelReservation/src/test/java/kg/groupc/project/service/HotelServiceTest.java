@@ -1,8 +1,13 @@
 package kg.groupc.project.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
@@ -10,13 +15,19 @@ import javax.persistence.PersistenceContext;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 
 import kg.groupc.project.dto.hotel.HotelMainFormDto;
+import kg.groupc.project.entity.hotel.Hotel;
+import kg.groupc.project.entity.hotel.QHotel;
 import kg.groupc.project.repository.hotel.HotelRepository;
 import kg.groupc.project.service.hotel.HotelService;
+import kg.groupc.project.util.HotelSearchIndex;
+import kg.groupc.project.util.HotelSearchIndex.Field;
 
 
 @SpringBootTest
@@ -45,5 +56,44 @@ class HotelServiceTest {
 	void testHotelService() {
 		System.out.println(hotelService.getHotelDetail(1));
 	}
-
+	
+	@Autowired
+	HotelSearchIndex hotelSearchIndex;
+	
+	// 색인 검색 결과 = DB 검색(status 1, lower(컬럼) LIKE lower('%검색어%'))
+	// 검색어는 DB 호텔명/주소의 앞 2글자와 대문자로 바꾼 것
+	@Test
+	void searchIndexMatchesLikeQuery() {
+		List<Hotel> hotelList = hotelRepository.findAll();
+		hotelSearchIndex.rebuild(hotelList);
+		Set<String> keywords = new LinkedHashSet<>();
+		for(Hotel hotel : hotelList) {
+			for(String text : new String[] {hotel.getName(), hotel.getAddress()}) {
+				if(text != null && text.trim().length() >= 2) {
+					keywords.add(text.trim().substring(0, 2));
+					keywords.add(text.trim().substring(0, 2).toUpperCase());
+				}
+			}
+		}
+		QHotel hotel = QHotel.hotel;
+		for(String keyword : keywords) {
+			assertEquals(like(hotel.status.eq(1L).and(hotel.name.containsIgnoreCase(keyword))),
+					index(Field.NAME, keyword), keyword);
+			assertEquals(like(hotel.status.eq(1L).and(hotel.address.containsIgnoreCase(keyword))),
+					index(Field.ADDRESS, keyword), keyword);
+		}
+	}
+	
+	List<Long> like(Predicate where) {
+		return StreamSupport.stream(((HotelRepository<Hotel, Long>) hotelRepository).findAll(where).spliterator(), false)
+				.map(Hotel::getSeq)
+				.sorted()
+				.collect(Collectors.toList());
+	}
+	
+	List<Long> index(Field field, String keyword) {
+		return hotelSearchIndex.search(field, keyword, PageRequest.of(0, Integer.MAX_VALUE - 1)).getContent().stream()
+				.sorted()
+				.collect(Collectors.toList());
+	}
 }
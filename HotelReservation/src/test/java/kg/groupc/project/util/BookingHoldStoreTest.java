@@ -0,0 +1,92 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+// 예약 hold 가 다른 사용자를 막고, 만료/해제되면 풀리는지 확인
+class BookingHoldStoreTest {
+
+	static final Date D1 = Date.valueOf("2026-03-01");
+	static final Date D3 = Date.valueOf("2026-03-03");
+	static final Date D5 = Date.valueOf("2026-03-05");
+
+	long[] now = {1_000_000L};
+
+	BookingHoldStore store() {
+		BookingHoldStore store = new BookingHoldStore();
+		store.clock = () -> now[0];
+		return store;
+	}
+
+	@Test
+	void holdBlocksOthers() {
+		BookingHoldStore store = store();
+		assertTrue(store.hold(1L, D1, D3, "a"));
+		assertFalse(store.hold(1L, D1, D5, "b"));
+		assertTrue(store.isHeldByOthers(1L, D1, D3, "b"));
+		assertFalse(store.isHeldByOthers(1L, D1, D3, "a"));
+		// 체크아웃 날 체크인은 겹치지 않음
+		assertTrue(store.hold(1L, D3, D5, "b"));
+		// 다른 방은 상관없음
+		assertTrue(store.hold(2L, D1, D5, "b"));
+	}
+
+	@Test
+	void holdExpires() {
+		BookingHoldStore store = store();
+		assertTrue(store.hold(1L, D1, D3, "a"));
+		now[0] += BookingHoldStore.HOLD_MILLIS - 1000;
+		assertTrue(store.isHeldByOthers(1L, D1, D3, "b"));
+		now[0] += 2000;
+		assertFalse(store.isHeldByOthers(1L, D1, D3, "b"));
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	void rehold() {
+		BookingHoldStore store = store();
+		assertTrue(store.hold(1L, D1, D3, "a"));
+		now[0] += BookingHoldStore.HOLD_MILLIS / 2;
+		// 다시 잡으면 기간/만료 시각이 바뀌고 이전 hold 의 만료는 무시됨
+		assertTrue(store.hold(1L, D3, D5, "a"));
+		assertFalse(store.isHeldByOthers(1L, D1, D3, "b"));
+		now[0] += BookingHoldStore.HOLD_MILLIS / 2 + 1000;
+		assertTrue(store.isHeldByOthers(1L, D3, D5, "b"));
+		store.release(1L, "a");
+		assertFalse(store.isHeldByOthers(1L, D3, D5, "b"));
+	}
+
+	// 임의 만료 시각이 모두 정확한 tick 에 한 번씩 만료되는지
+	@Test
+	void wheelExpiresInOrder() {
+		long start = 123_456_789L;
+		TimingWheel<Long> wheel = new TimingWheel<>(1000L, start);
+		Random random = new Random(42);
+		List<Long> expireList = new ArrayList<>();
+		for(int i = 0; i < 10_000; i++) {
+			long expireAt = start + random.nextInt(5 * 60 * 60 * 1000);
+			expireList.add(expireAt);
+			wheel.add(expireAt, expireAt);
+		}
+		List<Long> expired = new ArrayList<>();
+		for(long now = start; now <= start + 5 * 60 * 60 * 1000 + 1000; now += 1000 + random.nextInt(60_000)) {
+			long time = now;
+			wheel.advance(now, expireAt -> {
+				assertTrue(expireAt <= time, "early : " + expireAt + " / " + time);
+				assertTrue(expireAt > time - 61_000 - 1000, "late : " + expireAt + " / " + time);
+				expired.add(expireAt);
+			});
+		}
+		wheel.advance(start + 6 * 60 * 60 * 1000, expired::add);
+		assertEquals(expireList.size(), expired.size());
+		assertEquals(0, wheel.size());
+	}
+}
@@ -0,0 +1,101 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+// 캐시가 ttl/최대 건수/제거 시 다시 조회하는지 확인
+class BoundedCacheTest {
+
+	long[] now = {1_000_000L};
+	AtomicInteger loads = new AtomicInteger();
+	Function<String, String> loader = key -> {
+		loads.incrementAndGet();
+		return key.startsWith("none") ? null : key + loads.get();
+	};
+
+	BoundedCache<String, String> cache(int maxSize, long ttlNanos) {
+		BoundedCache<String, String> cache = new BoundedCache<>(maxSize, ttlNanos);
+		cache.clock = () -> now[0];
+		return cache;
+	}
+
+	@Test
+	void hitUntilTtl() {
+		BoundedCache<String, String> cache = cache(10, 60);
+		String first = cache.get("a", loader);
+		assertSame(first, cache.get("a", loader));
+		assertEquals(1, loads.get());
+		now[0] += 60;
+		cache.get("a", loader);
+		assertEquals(2, loads.get());
+
+		// ttl 0 이면 만료 없음
+		BoundedCache<String, String> forever = cache(10, 0);
+		forever.get("b", loader);
+		now[0] += 1_000_000_000L;
+		forever.get("b", loader);
+		assertEquals(3, loads.get());
+		assertEquals(1L, forever.getMetrics().get("hits"));
+	}
+
+	@Test
+	void evictAndClearReload() {
+		BoundedCache<String, String> cache = cache(10, 0);
+		cache.get("a", loader);
+		cache.get("b", loader);
+		cache.evict("a");
+		cache.get("a", loader);
+		cache.get("b", loader);
+		assertEquals(3, loads.get());
+		cache.clear();
+		assertEquals(0, cache.size());
+		cache.get("b", loader);
+		assertEquals(4, loads.get());
+		assertEquals(1L, cache.getMetrics().get("hits"));
+		assertEquals(4L, cache.getMetrics().get("misses"));
+	}
+
+	@Test
+	void evictDuringLoadNotCached() {
+		BoundedCache<String, String> cache = cache(10, 0);
+		// 조회하는 동안 제거되면(= 읽은 값이 이미 바뀌었을 수 있음) 넣지 않음
+		cache.get("a", key -> {
+			cache.evict("a");
+			return loader.apply(key);
+		});
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void missingNotCached() {
+		BoundedCache<String, String> cache = cache(10, 0);
+		assertNull(cache.get("none", loader));
+		assertNull(cache.get("none", loader));
+		assertNull(cache.get(null, loader));
+		assertEquals(2, loads.get());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void boundedLru() {
+		BoundedCache<String, String> cache = cache(3, 0);
+		cache.get("a", loader);
+		cache.get("b", loader);
+		cache.get("c", loader);
+		cache.get("a", loader);
+		// 가장 오래 안 쓴 b 가 빠짐
+		cache.get("d", loader);
+		assertEquals(3, cache.size());
+		assertEquals(4, loads.get());
+		cache.get("a", loader);
+		assertEquals(4, loads.get());
+		cache.get("b", loader);
+		assertEquals(5, loads.get());
+	}
+}
@@ -0,0 +1,62 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// 해시 스레드 풀이 가득 차면 바로 거절하는지, cost 가 낮은 해시를 교체 대상으로 보는지 확인
+class BoundedPasswordEncoderTest {
+
+	@Test
+	void encodeAndMatch() {
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, 2, 4);
+		String hash = encoder.encode("password");
+		assertTrue(encoder.matches("password", hash));
+		assertFalse(encoder.matches("wrong", hash));
+		assertEquals(3L, encoder.getMetrics().get("completed"));
+		encoder.shutdown();
+	}
+
+	@Test
+	void upgradeLowerCost() {
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(6, 1, 1);
+		assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+		assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")));
+		encoder.shutdown();
+	}
+
+	@Test
+	void rejectWhenFull() throws Exception {
+		// 스레드 1개, 대기열 1칸 : 동시에 여러 건이면 일부는 기다리지 않고 거절
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(12, 1, 1);
+		ExecutorService callers = Executors.newFixedThreadPool(8);
+		AtomicInteger busy = new AtomicInteger();
+		List<Future<?>> futureList = new ArrayList<>();
+		for(int i = 0; i < 8; i++) {
+			futureList.add(callers.submit(() -> {
+				try {
+					encoder.encode("password");
+				}catch(BoundedPasswordEncoder.BusyException e) {
+					busy.incrementAndGet();
+				}
+			}));
+		}
+		for(Future<?> future : futureList) {
+			future.get();
+		}
+		callers.shutdown();
+		assertTrue(busy.get() > 0);
+		assertEquals((long) busy.get(), encoder.getMetrics().get("rejected"));
+		encoder.shutdown();
+	}
+}
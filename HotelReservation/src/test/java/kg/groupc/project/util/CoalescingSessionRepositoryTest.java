@@ -0,0 +1,101 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import kg.groupc.project.util.CoalescingSessionRepository.CoalescingSession;
+
+// 내장 DB(H2)의 세션 테이블로 저장 생략/저장, 사용자 아이디 조회 확인
+class CoalescingSessionRepositoryTest {
+
+	EmbeddedDatabase db;
+	JdbcTemplate jdbcTemplate;
+	CoalescingSessionRepository<Session> repository;
+
+	// JdbcSession 은 공개 타입이 아니므로 Session 으로 다룸
+	@SuppressWarnings("unchecked")
+	@BeforeEach
+	void setUp() {
+		db = new EmbeddedDatabaseBuilder()
+				.generateUniqueName(true)
+				.setType(EmbeddedDatabaseType.H2)
+				.addScript("org/springframework/session/jdbc/schema-h2.sql")
+				.build();
+		jdbcTemplate = new JdbcTemplate(db);
+		JdbcIndexedSessionRepository jdbcRepository = new JdbcIndexedSessionRepository(jdbcTemplate,
+				new TransactionTemplate(new DataSourceTransactionManager(db)));
+		repository = new CoalescingSessionRepository<>((FindByIndexNameSessionRepository<Session>) (FindByIndexNameSessionRepository<?>) jdbcRepository, Duration.ofSeconds(60));
+	}
+
+	@AfterEach
+	void tearDown() {
+		db.shutdown();
+	}
+
+	long storedLastAccess(String id) {
+		return jdbcTemplate.queryForObject("SELECT LAST_ACCESS_TIME FROM SPRING_SESSION WHERE SESSION_ID = ?", Long.class, id);
+	}
+
+	@Test
+	void skipAccessTimeWithinWindow() {
+		CoalescingSession<Session> session = repository.createSession();
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "user1");
+		repository.save(session);
+		long first = storedLastAccess(session.getId());
+
+		// 접근 시각만 바뀜 : window 안이면 저장 안 함
+		CoalescingSession<Session> loaded = repository.findById(session.getId());
+		loaded.setLastAccessedTime(Instant.ofEpochMilli(first).plusSeconds(30));
+		repository.save(loaded);
+		assertEquals(first, storedLastAccess(session.getId()));
+
+		// window 가 지나면 저장
+		loaded = repository.findById(session.getId());
+		loaded.setLastAccessedTime(Instant.ofEpochMilli(first).plusSeconds(61));
+		repository.save(loaded);
+		assertEquals(first + 61_000, storedLastAccess(session.getId()));
+
+		assertEquals(2L, repository.getMetrics().get("saved"));
+		assertEquals(1L, repository.getMetrics().get("skipped"));
+	}
+
+	@Test
+	void saveAttributeChange() {
+		CoalescingSession<Session> session = repository.createSession();
+		repository.save(session);
+
+		CoalescingSession<Session> loaded = repository.findById(session.getId());
+		loaded.setAttribute("cart", "room-1");
+		repository.save(loaded);
+		assertEquals("room-1", repository.findById(session.getId()).<String>getAttribute("cart"));
+	}
+
+	@Test
+	void findByPrincipalAndDelete() {
+		CoalescingSession<Session> session = repository.createSession();
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "user1");
+		repository.save(session);
+
+		assertEquals(1, repository.findByPrincipalName("user1").size());
+		assertEquals(0, repository.findByPrincipalName("user2").size());
+
+		repository.deleteById(session.getId());
+		assertNull(repository.findById(session.getId()));
+	}
+}
@@ -0,0 +1,78 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaTypeFactory;
+
+import kg.groupc.project.util.ImageVariantProcessor.Variant;
+
+// 같은 내용은 한 번만 저장되는지, 키 형식이 아니면 파일을 찾지 않는지, WebP 사본을 찾는지 확인
+class ContentAddressedImageStoreTest {
+
+	@TempDir
+	Path dir;
+
+	ContentAddressedImageStore store() throws IOException {
+		ContentAddressedImageStore store = new ContentAddressedImageStore();
+		store.dir = dir.toString();
+		store.init();
+		return store;
+	}
+
+	@Test
+	void deduplicate() throws IOException {
+		ContentAddressedImageStore store = store();
+		byte[] image = {1, 2, 3, 4};
+		String key = store.store(new ByteArrayInputStream(image), "JPG");
+		// {1, 2, 3, 4} 의 SHA-256
+		assertEquals("9f64a747e1b97f131fabb6b447296c9b6f0201e79fb3c5356e6c77e89b6a806a.jpg", key);
+		assertEquals(key, store.store(new ByteArrayInputStream(image), "jpg"));
+		assertNotEquals(key, store.store(new ByteArrayInputStream(new byte[] {5}), "jpg"));
+
+		assertArrayEquals(image, Files.readAllBytes(store.resolve(key)));
+		assertEquals(2L, store.getMetrics().get("stored"));
+		assertEquals(1L, store.getMetrics().get("deduplicated"));
+		// 임시 파일이 남지 않음
+		try(Stream<Path> files = Files.list(dir)) {
+			assertEquals(2, files.count());
+		}
+	}
+
+	@Test
+	void rejectNonKey() throws IOException {
+		ContentAddressedImageStore store = store();
+		assertNull(store.resolve("../application.properties"));
+		assertNull(store.resolve("0c09e2f2-ce19-4e91-a2ff-9670f737649a.jpeg"));
+		assertTrue(store.store(new ByteArrayInputStream(new byte[] {1}), "../x").endsWith(".bin"));
+		// 문서 형식은 이미지로 저장하지 않음
+		String html = store.store(new ByteArrayInputStream("<script>".getBytes()), "html");
+		assertTrue(html.endsWith(".bin"));
+		assertTrue(store.store(new ByteArrayInputStream(new byte[] {2}), "svg").endsWith(".bin"));
+		assertNull(store.resolve(html.replace(".bin", ".html")));
+	}
+
+	@Test
+	void resolveWebp() throws IOException {
+		ContentAddressedImageStore store = store();
+		String key = store.store(new ByteArrayInputStream(new byte[] {1}), "png");
+		assertNull(store.resolveWebp(Variant.THUMB, key));
+		Path webp = dir.resolve(Variant.THUMB.getDir()).resolve(key + ".webp");
+		Files.createDirectories(webp.getParent());
+		Files.write(webp, new byte[] {2});
+		assertEquals(webp.toAbsolutePath().normalize(), store.resolveWebp(Variant.THUMB, key));
+		assertNull(store.resolveWebp(Variant.THUMB, "../" + key));
+		assertEquals("image/webp", MediaTypeFactory.getMediaType(webp.getFileName().toString()).get().toString());
+	}
+}
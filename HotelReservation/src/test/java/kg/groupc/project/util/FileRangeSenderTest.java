@@ -0,0 +1,99 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// Range/ETag 처리와 sendfile 요청 속성 확인
+class FileRangeSenderTest {
+
+	@TempDir
+	Path dir;
+
+	Path file() throws IOException {
+		Path file = dir.resolve("a.jpg");
+		Files.write(file, "0123456789".getBytes());
+		return file;
+	}
+
+	@Test
+	void parseRange() {
+		assertArrayEquals(new long[] {2, 5}, FileRangeSender.parseRange("bytes=2-5", 10));
+		assertArrayEquals(new long[] {2, 9}, FileRangeSender.parseRange("bytes=2-", 10));
+		assertArrayEquals(new long[] {7, 9}, FileRangeSender.parseRange("bytes=-3", 10));
+		assertArrayEquals(new long[] {0, 9}, FileRangeSender.parseRange("bytes=-30", 10));
+		assertArrayEquals(new long[] {8, 9}, FileRangeSender.parseRange("bytes=8-100", 10));
+		assertSame(FileRangeSender.UNSATISFIABLE, FileRangeSender.parseRange("bytes=10-", 10));
+		assertNull(FileRangeSender.parseRange(null, 10));
+		assertNull(FileRangeSender.parseRange("bytes=1-2,4-5", 10));
+		assertNull(FileRangeSender.parseRange("bytes=a-b", 10));
+	}
+
+	@Test
+	void fullAndPartial() throws IOException {
+		MockHttpServletRequest req = new MockHttpServletRequest("GET", "/images/a.jpg");
+		MockHttpServletResponse res = new MockHttpServletResponse();
+		FileRangeSender.send(req, res, file(), "abc", "immutable");
+		assertEquals(200, res.getStatus());
+		assertEquals("\"abc\"", res.getHeader("ETag"));
+		assertEquals("image/jpeg", res.getContentType());
+		assertEquals("0123456789", res.getContentAsString());
+
+		req.addHeader("Range", "bytes=2-4");
+		res = new MockHttpServletResponse();
+		FileRangeSender.send(req, res, file(), "abc", "immutable");
+		assertEquals(206, res.getStatus());
+		assertEquals("bytes 2-4/10", res.getHeader("Content-Range"));
+		assertEquals("234", res.getContentAsString());
+
+		// If-Range 가 다르면 전체
+		req.addHeader("If-Range", "\"old\"");
+		res = new MockHttpServletResponse();
+		FileRangeSender.send(req, res, file(), "abc", "immutable");
+		assertEquals(200, res.getStatus());
+	}
+
+	@Test
+	void notModifiedAndUnsatisfiable() throws IOException {
+		MockHttpServletRequest req = new MockHttpServletRequest("GET", "/images/a.jpg");
+		req.addHeader("If-None-Match", "\"abc\"");
+		MockHttpServletResponse res = new MockHttpServletResponse();
+		FileRangeSender.send(req, res, file(), "abc", "immutable");
+		assertEquals(304, res.getStatus());
+		assertEquals(0, res.getContentAsByteArray().length);
+
+		req = new MockHttpServletRequest("GET", "/images/a.jpg");
+		req.addHeader("Range", "bytes=20-");
+		res = new MockHttpServletResponse();
+		FileRangeSender.send(req, res, file(), "abc", "immutable");
+		assertEquals(416, res.getStatus());
+		assertEquals("bytes */10", res.getHeader("Content-Range"));
+	}
+
+	@Test
+	void sendfile() throws IOException {
+		MockHttpServletRequest req = new MockHttpServletRequest("GET", "/images/a.jpg");
+		req.setAttribute(FileRangeSender.SENDFILE_SUPPORT, Boolean.TRUE);
+		req.addHeader("Range", "bytes=2-4");
+		MockHttpServletResponse res = new MockHttpServletResponse();
+		Path file = file();
+		long sendfileBefore = (long) FileRangeSender.getMetrics().get("sendfile");
+		FileRangeSender.send(req, res, file, "abc", "immutable");
+		assertEquals(sendfileBefore + 1, FileRangeSender.getMetrics().get("sendfile"));
+		assertEquals(file.toAbsolutePath().toString(), req.getAttribute(FileRangeSender.SENDFILE_FILENAME));
+		assertEquals(2L, req.getAttribute(FileRangeSender.SENDFILE_START));
+		assertEquals(5L, req.getAttribute(FileRangeSender.SENDFILE_END));
+		assertEquals(3, res.getContentLength());
+		assertEquals(0, res.getContentAsByteArray().length);
+	}
+}
@@ -0,0 +1,139 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import kg.groupc.project.entity.hotel.Hotel;
+import kg.groupc.project.util.HotelSearchIndex.Field;
+
+// n-gram 색인 검색 결과가 lower(컬럼) LIKE lower('%검색어%')(= 전체 contains 스캔)와 같은지 확인
+class HotelSearchIndexTest {
+	
+	static final int HOTEL_COUNT = 10_000;
+	static final String[] KEYWORDS = {"서울", "해운대", "호텔", "스테이", "중구", "제주시 애월", "그랜드 하", "hotel", "HOTEL", "없는검색어"};
+	
+	static List<Hotel> hotelList = new ArrayList<>();
+	static HotelSearchIndex index = new HotelSearchIndex();
+	
+	@BeforeAll
+	static void init() {
+		String[] cities = {"서울특별시", "부산광역시", "제주특별자치도 제주시", "대구광역시", "인천광역시", "강원도 강릉시"};
+		String[] districts = {"중구", "해운대구", "강남구", "애월읍", "수성구", "연수구", "종로구"};
+		String[] brands = {"호텔", "리조트", "스테이", "게스트하우스", "모텔", "Hotel"};
+		String[] words = {"그랜드", "하버", "오션", "시티", "파크", "센트럴", "로얄", "블루", "해운대", "서울"};
+		Random random = new Random(42);
+		for(long seq = 1; seq <= HOTEL_COUNT; seq++) {
+			Hotel hotel = new Hotel();
+			hotel.setSeq(seq);
+			hotel.setName(words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]
+					+ " " + brands[random.nextInt(brands.length)] + " " + random.nextInt(1000));
+			hotel.setAddress(cities[random.nextInt(cities.length)] + " " + districts[random.nextInt(districts.length)]
+					+ " " + (random.nextInt(300) + 1) + "번길 " + (random.nextInt(50) + 1));
+			hotel.setStatus(random.nextInt(20) == 0 ? 0L : 1L);
+			hotelList.add(hotel);
+		}
+		index.rebuild(hotelList);
+	}
+	
+	// lower(컬럼) LIKE lower('%검색어%') 와 같은 전체 스캔
+	static List<Long> scan(Field field, String keyword) {
+		return hotelList.stream()
+				.filter(hotel -> hotel.getStatus() == 1L)
+				.filter(hotel -> (field == Field.NAME ? hotel.getName() : hotel.getAddress()).toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT)))
+				.map(Hotel::getSeq)
+				.sorted()
+				.collect(Collectors.toList());
+	}
+	
+	static List<Long> search(Field field, String keyword) {
+		return index.search(field, keyword, PageRequest.of(0, HOTEL_COUNT)).getContent().stream()
+				.sorted()
+				.collect(Collectors.toList());
+	}
+	
+	@Test
+	void sameResultAsLike() {
+		for(String keyword : KEYWORDS) {
+			assertEquals(scan(Field.NAME, keyword), search(Field.NAME, keyword), keyword);
+			assertEquals(scan(Field.ADDRESS, keyword), search(Field.ADDRESS, keyword), keyword);
+		}
+	}
+	
+	@Test
+	void rankedPaging() {
+		Page<Long> page = index.search(Field.NAME, "오션", PageRequest.of(0, 10));
+		assertEquals(scan(Field.NAME, "오션").size(), page.getTotalElements());
+		assertEquals(10, page.getContent().size());
+		// 앞부분 일치가 먼저 나옴
+		for(Long seq : page.getContent()) {
+			assertEquals(true, hotelList.get((int) (seq - 1)).getName().startsWith("오션"));
+		}
+	}
+	
+	// 목록 화면이 만드는 커서 값(주소 검색)
+	static String cursorValue(String keyword, Long seq) {
+		return HotelSearchIndex.cursorValue(keyword, hotelList.get((int) (seq - 1)).getAddress());
+	}
+	
+	@Test
+	void cursorMatchesOffsetPaging() {
+		// 커서로 앞으로 넘긴 결과 = offset 페이징 결과
+		Long cursor = null;
+		for(int page = 0; page < 5; page++) {
+			List<Long> byCursor = index.searchCursor(Field.ADDRESS, "해운대", cursor == null ? null : cursorValue("해운대", cursor), cursor, false, 10);
+			List<Long> byOffset = index.search(Field.ADDRESS, "해운대", PageRequest.of(page, 10)).getContent();
+			assertEquals(byOffset, byCursor);
+			cursor = byCursor.get(byCursor.size() - 1);
+		}
+		// 뒤로 가면 커서 바로 앞 10개(39 ~ 48번째)
+		List<Long> back = index.searchCursor(Field.ADDRESS, "해운대", cursorValue("해운대", cursor), cursor, true, 10);
+		assertEquals(index.search(Field.ADDRESS, "해운대", PageRequest.of(0, 50)).getContent().subList(39, 49), back);
+	}
+	
+	@Test
+	void cursorSurvivesRemovedHotel() {
+		HotelSearchIndex copy = new HotelSearchIndex();
+		copy.rebuild(hotelList);
+		List<Long> all = copy.search(Field.ADDRESS, "해운대", PageRequest.of(0, 30)).getContent();
+		Long cursor = all.get(9);
+		String value = cursorValue("해운대", cursor);
+		// 커서 호텔이 삭제되어도 첫 페이지로 돌아가지 않고 11번째부터
+		copy.remove(cursor);
+		assertEquals(all.subList(10, 20), copy.searchCursor(Field.ADDRESS, "해운대", value, cursor, false, 10));
+		// 잘못된 커서 값은 첫 페이지(삭제된 10번째 대신 11번째까지)
+		List<Long> first = new ArrayList<>(all.subList(0, 9));
+		first.add(all.get(10));
+		assertEquals(first, copy.searchCursor(Field.ADDRESS, "해운대", "x", cursor, false, 10));
+	}
+	
+	@Test
+	void putAndRemove() {
+		HotelSearchIndex small = new HotelSearchIndex();
+		Hotel hotel = new Hotel();
+		hotel.setSeq(1L);
+		hotel.setName("부산 호텔");
+		hotel.setAddress("부산광역시 해운대구");
+		hotel.setStatus(1L);
+		small.rebuild(new ArrayList<>());
+		small.put(hotel);
+		assertEquals(1, small.search(Field.ADDRESS, "해운대", PageRequest.of(0, 10)).getTotalElements());
+		
+		hotel.setAddress("부산광역시 중구");
+		small.put(hotel);
+		assertEquals(0, small.search(Field.ADDRESS, "해운대", PageRequest.of(0, 10)).getTotalElements());
+		assertEquals(1, small.search(Field.ADDRESS, "중구", PageRequest.of(0, 10)).getTotalElements());
+		
+		small.remove(1L);
+		assertEquals(0, small.search(Field.NAME, "호텔", PageRequest.of(0, 10)).getTotalElements());
+	}
+}
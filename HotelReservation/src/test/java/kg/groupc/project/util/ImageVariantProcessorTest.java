@@ -0,0 +1,64 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kg.groupc.project.util.ImageVariantProcessor.Variant;
+
+// 크기별 변환 결과의 크기/비율, 작은 원본은 늘리지 않는지, 이미지가 아닌 파일은 건너뛰는지 확인
+class ImageVariantProcessorTest {
+
+	@TempDir
+	Path dir;
+
+	File image(String name, int width, int height, String format) throws IOException {
+		File file = dir.resolve(name).toFile();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, file);
+		return file;
+	}
+
+	@Test
+	void variants() throws IOException {
+		File original = image("a.jpeg", 3000, 2000, "jpeg");
+		new ImageVariantProcessor().process(original);
+
+		for(Variant variant : Variant.values()) {
+			BufferedImage resized = ImageIO.read(ImageVariantProcessor.variantFile(original, variant));
+			assertEquals(variant.getMaxWidth(), resized.getWidth());
+			assertEquals(Math.round(2000.0 * variant.getMaxWidth() / 3000), resized.getHeight());
+		}
+		assertTrue(ImageVariantProcessor.variantFile(original, Variant.THUMB).length() < original.length());
+	}
+
+	@Test
+	void noUpscale() throws IOException {
+		File original = image("b.png", 300, 100, "png");
+		new ImageVariantProcessor().process(original);
+
+		assertEquals(160, ImageIO.read(ImageVariantProcessor.variantFile(original, Variant.THUMB)).getWidth());
+		assertEquals(300, ImageIO.read(ImageVariantProcessor.variantFile(original, Variant.DETAIL)).getWidth());
+	}
+
+	@Test
+	void skipNonImage() throws IOException {
+		File file = dir.resolve("c.txt").toFile();
+		Files.write(file.toPath(), "text".getBytes());
+		ImageVariantProcessor processor = new ImageVariantProcessor();
+		processor.process(file);
+
+		assertFalse(ImageVariantProcessor.variantFile(file, Variant.THUMB).exists());
+		assertEquals(0L, processor.getMetrics().get("failed"));
+	}
+}
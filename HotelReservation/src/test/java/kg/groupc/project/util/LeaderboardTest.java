@@ -0,0 +1,64 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+// 베이즈 평균 순위, 리뷰/즐겨찾기 반영, 재집계 후 순위 확인
+class LeaderboardTest {
+
+	static List<Long> seqs(List<Leaderboard.Entry> entries) {
+		return entries.stream().map(Leaderboard.Entry::getSeq).collect(Collectors.toList());
+	}
+
+	@Test
+	void bayesianRating() {
+		Leaderboard board = new Leaderboard(5);
+		// 1번 : 5점 리뷰 1개, 2번 : 4.6점 리뷰 50개, 3번 : 2점 리뷰 10개 -> 전체 평균 약 4.2
+		board.reload(Arrays.asList(
+				new Leaderboard.Row(1L, "a", 1, 5, 0),
+				new Leaderboard.Row(2L, "b", 50, 230, 3),
+				new Leaderboard.Row(3L, "c", 10, 20, 7),
+				new Leaderboard.Row(4L, "d", 0, 0, 0)));
+		assertEquals(255.0 / 61, board.getPriorMean(), 1e-9);
+		// 리뷰가 많은 2번이 리뷰 하나뿐인 1번보다 위, 리뷰 없는 4번은 없음
+		assertEquals(Arrays.asList(2L, 1L, 3L), seqs(board.topRated(10)));
+		assertEquals(Arrays.asList(2L, 1L), seqs(board.topRated(2)));
+		assertEquals(Arrays.asList(3L, 2L), seqs(board.mostFavorited(10)));
+	}
+
+	@Test
+	void incremental() {
+		Leaderboard board = new Leaderboard(5);
+		board.reload(Arrays.asList(
+				new Leaderboard.Row(1L, "a", 1, 5, 0),
+				new Leaderboard.Row(2L, "b", 50, 230, 3)));
+		for(int i = 0; i < 10; i++) {
+			board.addScore(1L, null, 5);
+		}
+		assertEquals(Arrays.asList(1L, 2L), seqs(board.topRated(10)));
+		assertEquals(11, board.topRated(1).get(0).getReviewCount());
+		assertEquals("a", board.topRated(1).get(0).getName());
+
+		// 새 항목
+		board.addScore(5L, "e", 1);
+		assertEquals(5L, board.topRated(10).get(2).getSeq());
+		board.addFavorite(5L, "e", 1);
+		board.addFavorite(5L, "e", 1);
+		board.addFavorite(5L, "e", 1);
+		board.addFavorite(5L, "e", 1);
+		assertEquals(Arrays.asList(5L, 2L), seqs(board.mostFavorited(10)));
+		board.addFavorite(5L, null, -4);
+		assertEquals(Arrays.asList(2L), seqs(board.mostFavorited(10)));
+
+		board.remove(2L);
+		assertEquals(Arrays.asList(1L, 5L), seqs(board.topRated(10)));
+		assertTrue(board.mostFavorited(10).isEmpty());
+		assertEquals(2, board.size());
+	}
+}
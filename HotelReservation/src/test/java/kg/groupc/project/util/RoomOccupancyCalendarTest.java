@@ -0,0 +1,124 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import kg.groupc.project.dto.hotel.BookingRangeDto;
+
+// 점유 달력 결과가 기간 겹침 조회(reserveDate < checkout AND reserveEndDate > checkin)와 같은지 확인
+class RoomOccupancyCalendarTest {
+
+	static final int ROOM_COUNT = 10_000;
+	static final long TODAY = LocalDate.of(2026, 1, 1).toEpochDay();
+
+	// 방 seq -> 예약 목록(DB 조회 대신 사용)
+	static Map<Long, List<BookingRangeDto>> bookingMap = new HashMap<>();
+	static List<BookingRangeDto> bookingList = new ArrayList<>();
+	static RoomOccupancyCalendar calendar = new RoomOccupancyCalendar();
+
+	@BeforeAll
+	static void init() {
+		Random random = new Random(42);
+		for(long room = 1; room <= ROOM_COUNT; room++) {
+			List<BookingRangeDto> list = new ArrayList<>();
+			long day = TODAY - random.nextInt(5);
+			while(day < TODAY + 300) {
+				day += random.nextInt(10);
+				long end = day + 1 + random.nextInt(5);
+				list.add(new BookingRangeDto(room, date(day), date(end)));
+				day = end;
+			}
+			bookingMap.put(room, list);
+			bookingList.addAll(list);
+		}
+		calendar.today = () -> TODAY;
+		calendar.rebuild(bookingList);
+	}
+
+	static Date date(long epochDay) {
+		return Date.valueOf(LocalDate.ofEpochDay(epochDay));
+	}
+
+	// 기간 겹침 조회와 같은 조건
+	static boolean overlapScan(Long room, Date checkin, Date checkout) {
+		for(BookingRangeDto booking : bookingMap.get(room)) {
+			if(booking.getReserveDate().before(checkout) && booking.getReserveEndDate().after(checkin)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Test
+	void sameResultAsOverlapQuery() {
+		Random random = new Random(7);
+		for(int i = 0; i < 100_000; i++) {
+			long room = random.nextInt(ROOM_COUNT) + 1;
+			long checkin = TODAY + random.nextInt(300);
+			long checkout = checkin + 1 + random.nextInt(14);
+			assertEquals(overlapScan(room, date(checkin), date(checkout)), calendar.isFree(room, date(checkin), date(checkout)));
+		}
+	}
+
+	@Test
+	void outOfRangeIsUnknown() {
+		assertNull(calendar.isFree(1L, date(TODAY - 1), date(TODAY + 1)));
+		assertNull(calendar.isFree(1L, date(TODAY + 380), date(TODAY + RoomOccupancyCalendar.HORIZON_DAYS + 1)));
+		assertEquals(false, calendar.isFree(1L, date(TODAY + 3), date(TODAY + 3)));
+	}
+
+	@Test
+	void addAndRoll() {
+		RoomOccupancyCalendar small = new RoomOccupancyCalendar();
+		long[] today = {TODAY};
+		small.today = () -> today[0];
+		small.rebuild(new ArrayList<>());
+		small.add(1L, date(TODAY + 70), date(TODAY + 72));
+		assertEquals(false, small.isFree(1L, date(TODAY + 71), date(TODAY + 73)));
+		assertEquals(true, small.isFree(1L, date(TODAY + 72), date(TODAY + 80)));
+
+		// 날짜가 지나도 같은 날짜는 같은 결과
+		today[0] = TODAY + 65;
+		assertEquals(false, small.isFree(1L, date(TODAY + 69), date(TODAY + 71)));
+		assertEquals(true, small.isFree(1L, date(TODAY + 65), date(TODAY + 70)));
+		assertNull(small.isFree(1L, date(TODAY + 64), date(TODAY + 66)));
+
+		// 예약이 지나간 방은 비워짐
+		today[0] = TODAY + 72;
+		assertEquals(0, small.size());
+	}
+
+	@Test
+	void freeNights() {
+		YearMonth month = YearMonth.from(LocalDate.ofEpochDay(TODAY + 31));
+		for(long room = 1; room <= 100; room++) {
+			List<LocalDate> expected = new ArrayList<>();
+			for(LocalDate night = month.atDay(1); !night.isAfter(month.atEndOfMonth()); night = night.plusDays(1)) {
+				if(overlapScan(room, Date.valueOf(night), Date.valueOf(night.plusDays(1)))) {
+					expected.add(night);
+				}
+			}
+			assertEquals(expected, calendar.freeNights(room, month));
+		}
+	}
+
+	@Test
+	void footprintPer10kRooms() {
+		// 모든 방에 달력 범위 안의 예약이 있음 : 방 1만 개 = 120바이트 * 1만(약 1.2MB)
+		assertEquals(ROOM_COUNT, calendar.size());
+		assertEquals(1_200_000L, calendar.footprintBytes());
+		assertEquals(1_200_000L, calendar.getMetrics().get("footprintPer10kRoomsBytes"));
+	}
+}
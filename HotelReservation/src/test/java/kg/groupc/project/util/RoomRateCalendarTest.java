@@ -0,0 +1,76 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import kg.groupc.project.entity.hotel.RoomRate;
+
+// 요금 달력 견적이 규칙을 하루씩 적용한 합계와 같은지 확인
+class RoomRateCalendarTest {
+	
+	static final LocalDate TODAY = LocalDate.of(2026, 1, 5);//월요일
+	
+	static RoomRate rule(String start, String end, long weekdays, long price) {
+		RoomRate rate = new RoomRate();
+		rate.setStartDate(start == null ? null : Date.valueOf(start));
+		rate.setEndDate(end == null ? null : Date.valueOf(end));
+		rate.setWeekdays(weekdays);
+		rate.setPrice(price);
+		return rate;
+	}
+	
+	// 금, 토
+	static final long WEEKEND = (1L << (DayOfWeek.FRIDAY.getValue() - 1)) | (1L << (DayOfWeek.SATURDAY.getValue() - 1));
+	static final List<RoomRate> RULES = List.of(
+			rule("2026-07-15", "2026-08-20", 0, 200_000),//성수기
+			rule(null, null, WEEKEND, 150_000),//주말
+			rule("2026-07-15", "2026-08-20", WEEKEND, 250_000));//성수기 주말
+	
+	RoomRateCalendar calendar() {
+		RoomRateCalendar calendar = new RoomRateCalendar();
+		calendar.today = () -> TODAY.toEpochDay();
+		calendar.put(1L, 100_000, RULES);
+		return calendar;
+	}
+	
+	long expected(LocalDate from, LocalDate to) {
+		long total = 0;
+		for(LocalDate night = from; night.isBefore(to); night = night.plusDays(1)) {
+			boolean season = !night.isBefore(LocalDate.of(2026, 7, 15)) && !night.isAfter(LocalDate.of(2026, 8, 20));
+			boolean weekend = night.getDayOfWeek() == DayOfWeek.FRIDAY || night.getDayOfWeek() == DayOfWeek.SATURDAY;
+			total += season ? (weekend ? 250_000 : 200_000) : (weekend ? 150_000 : 100_000);
+		}
+		return total;
+	}
+	
+	@Test
+	void quoteAppliesRules() {
+		RoomRateCalendar calendar = calendar();
+		// 월 ~ 월 : 평일 5박 + 주말 2박
+		assertEquals(5 * 100_000 + 2 * 150_000, calendar.quote(1L, Date.valueOf(TODAY), Date.valueOf(TODAY.plusDays(7))));
+		// 시즌 규칙이 기간 없는 주말 규칙보다 우선
+		assertEquals(200_000L, calendar.quote(1L, Date.valueOf("2026-07-15"), Date.valueOf("2026-07-16")));
+		assertEquals(250_000L, calendar.quote(1L, Date.valueOf("2026-07-17"), Date.valueOf("2026-07-18")));
+		assertNull(calendar.quote(1L, Date.valueOf(TODAY), Date.valueOf(TODAY)));
+	}
+	
+	@Test
+	void sameAsDailyRules() {
+		RoomRateCalendar calendar = calendar();
+		Random random = new Random(42);
+		for(int i = 0; i < 10_000; i++) {
+			// 달력 범위 밖(과거, 1년 이후)도 포함
+			LocalDate from = TODAY.plusDays(random.nextInt(420) - 20);
+			LocalDate to = from.plusDays(1 + random.nextInt(30));
+			assertEquals(expected(from, to), calendar.quote(1L, Date.valueOf(from), Date.valueOf(to)), from + " ~ " + to);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// 압축 대상만 .gz 를 만들고, 다시 실행하면 건너뛰는지 확인
+class StaticAssetCompressorTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void compressOnce() throws IOException {
+		StringBuilder css = new StringBuilder();
+		for(int i = 0; i < 200; i++) {
+			css.append(".c").append(i).append(" { margin: 0; padding: 0; }\n");
+		}
+		Path large = dir.resolve("a.css");
+		Files.write(large, css.toString().getBytes());
+		Files.write(dir.resolve("small.js"), "var a = 1;".getBytes());
+		Files.write(dir.resolve("b.png"), css.toString().getBytes());
+
+		StaticAssetCompressor compressor = new StaticAssetCompressor();
+		assertEquals(1, compressor.compress(dir));
+		Path gz = dir.resolve("a.css.gz");
+		assertTrue(Files.size(gz) < Files.size(large));
+		try(InputStream in = new GZIPInputStream(Files.newInputStream(gz))) {
+			assertEquals(css.toString(), new String(in.readAllBytes()));
+		}
+		assertFalse(Files.exists(dir.resolve("small.js.gz")));
+		assertFalse(Files.exists(dir.resolve("b.png.gz")));
+
+		assertEquals(0, compressor.compress(dir));
+	}
+}
@@ -0,0 +1,50 @@
+package kg.groupc.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+// 가입된 아이디는 항상 있음으로, 없는 아이디는 대부분 없음으로 나오는지(오탐률) 확인
+class UserIdBloomFilterTest {
+
+	@Test
+	void noFalseNegativeAndFppNearTarget() {
+		UserIdBloomFilter filter = new UserIdBloomFilter();
+		filter.expectedInsertions = 100_000;
+		filter.fpp = 0.01;
+		// 만들기 전에는 항상 DB 확인
+		assertTrue(filter.mightContain("user0"));
+
+		List<String> userIdList = new ArrayList<>();
+		for(int i = 0; i < 50_000; i++) {
+			userIdList.add("user" + i);
+		}
+		filter.reload(userIdList);
+		filter.put("newcomer");
+		for(String userId : userIdList) {
+			assertTrue(filter.mightContain(userId));
+		}
+		assertTrue(filter.mightContain("newcomer"));
+
+		int falsePositive = 0;
+		int trials = 100_000;
+		for(int i = 0; i < trials; i++) {
+			if(filter.mightContain("guest" + i)) {
+				falsePositive++;
+			}
+		}
+		double rate = (double) falsePositive / trials;
+		assertTrue(rate < 0.01, "fpp : " + rate);
+
+		Map<String, Object> metrics = filter.getMetrics();
+		assertTrue((Double) metrics.get("expectedFpp") < 0.02);
+		// 10만 건, 1% : 약 120KB
+		assertTrue((Long) metrics.get("bytes") < 130_000);
+		assertFalse(metrics.isEmpty());
+	}
+}